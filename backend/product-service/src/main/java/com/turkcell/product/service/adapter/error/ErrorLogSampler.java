@@ -0,0 +1,113 @@
+package com.turkcell.product.service.adapter.error;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which handled errors are logged.
+ * Every error is counted per exception type, status and endpoint; logging is limited to a
+ * number of lines per interval for each exception type and endpoint, so a crawler or a retry
+ * storm hitting the same error costs a counter increment instead of a log line. The next line
+ * logged for a key reports how many were skipped before it.
+ */
+@Component
+public class ErrorLogSampler {
+    
+    /**
+     * Returned by {@link #sample} when the error must not be logged.
+     */
+    public static final long SUPPRESSED = -1;
+    
+    private static final String UNMATCHED_ENDPOINT = "UNMATCHED";
+    
+    private final ConcurrentMap<Key, Window> windows = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long intervalNanos;
+    private final int maxPerInterval;
+    
+    public ErrorLogSampler(
+            @Value("${product.error-log.interval:PT10S}") Duration interval,
+            @Value("${product.error-log.max-per-interval:5}") int maxPerInterval,
+            MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = interval.toNanos();
+        this.maxPerInterval = maxPerInterval;
+    }
+    
+    /**
+     * Counts a handled error and decides whether to log it.
+     * 
+     * @param ex the handled exception
+     * @param request the request that failed
+     * @param status the response status
+     * @return {@link #SUPPRESSED} when the error must not be logged, otherwise the number of
+     *         errors of the same key that were suppressed since the last logged one
+     */
+    public long sample(Exception ex, HttpServletRequest request, HttpStatus status) {
+        Key key = new Key(ex.getClass(), endpointOf(request), status.value());
+        Window window = windows.computeIfAbsent(key, this::newWindow);
+        window.errors.increment();
+        return window.acquire(System.nanoTime(), intervalNanos, maxPerInterval);
+    }
+    
+    /**
+     * Uses the method and matched handler pattern, so path variables such as product IDs do not
+     * create a key (and a meter) per distinct URL; requests no handler matched share one key.
+     */
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? request.getMethod() + " " + pattern : UNMATCHED_ENDPOINT;
+    }
+    
+    private Window newWindow(Key key) {
+        Counter errors = Counter.builder("product.errors")
+                .description("Errors handled by the REST layer")
+                .tag("exception", key.type().getSimpleName())
+                .tag("status", Integer.toString(key.status()))
+                .tag("endpoint", key.endpoint())
+                .register(meterRegistry);
+        return new Window(errors, System.nanoTime());
+    }
+    
+    private record Key(Class<?> type, String endpoint, int status) {
+    }
+    
+    /**
+     * Log budget of one key for the current interval.
+     */
+    private static final class Window {
+        
+        private final Counter errors;
+        private final AtomicLong start;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+        
+        private Window(Counter errors, long start) {
+            this.errors = errors;
+            this.start = new AtomicLong(start);
+        }
+        
+        private long acquire(long now, long intervalNanos, int maxPerInterval) {
+            long current = start.get();
+            if (now - current >= intervalNanos && start.compareAndSet(current, now)) {
+                logged.set(0);
+            }
+            if (logged.incrementAndGet() > maxPerInterval) {
+                suppressed.incrementAndGet();
+                return SUPPRESSED;
+            }
+            return suppressed.getAndSet(0);
+        }
+    }
+}
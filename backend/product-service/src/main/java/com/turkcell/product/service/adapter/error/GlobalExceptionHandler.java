@@ -2,11 +2,15 @@ package com.turkcell.product.service.adapter.error;
 
 import com.turkcell.product.service.domain.exception.ConflictException;
 import com.turkcell.product.service.domain.exception.DomainException;
+import com.turkcell.product.service.domain.exception.PreconditionFailedException;
 import com.turkcell.product.service.domain.exception.ResourceNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,12 +27,20 @@ import java.util.Map;
 /**
  * Global exception handler for all REST controllers.
  * Provides consistent error responses across the entire API.
+ * Errors are logged through {@link ErrorLogSampler}, so repeated errors of one kind on one
+ * endpoint are counted rather than logged one by one.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
     
+    private final ErrorLogSampler errorLogSampler;
+    
+    public GlobalExceptionHandler(ErrorLogSampler errorLogSampler) {
+        this.errorLogSampler = errorLogSampler;
+    }
+    
     /**
      * Handles validation errors from request body validation.
      */
@@ -36,7 +49,7 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException ex, 
             HttpServletRequest request) {
         
-        logger.warn("Validation error on path {}: {}", request.getRequestURI(), ex.getMessage());
+        log(Level.WARN, "Validation error", ex, request, HttpStatus.BAD_REQUEST);
         
         Map<String, List<String>> fieldErrors = new HashMap<>();
         
@@ -66,7 +79,7 @@ public class GlobalExceptionHandler {
             ResourceNotFoundException ex, 
             HttpServletRequest request) {
         
-        logger.warn("Resource not found on path {}: {}", request.getRequestURI(), ex.getMessage());
+        log(Level.WARN, "Resource not found", ex, request, HttpStatus.NOT_FOUND);
         
         ApiError apiError = ApiError.of(
             HttpStatus.NOT_FOUND.value(),
@@ -86,7 +99,7 @@ public class GlobalExceptionHandler {
             ConflictException ex, 
             HttpServletRequest request) {
         
-        logger.warn("Conflict error on path {}: {}", request.getRequestURI(), ex.getMessage());
+        log(Level.WARN, "Conflict error", ex, request, HttpStatus.CONFLICT);
         
         ApiError apiError = ApiError.of(
             HttpStatus.CONFLICT.value(),
@@ -98,6 +111,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(apiError);
     }
     
+    /**
+     * Handles failed preconditions of conditional requests (If-Match).
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiError> handlePreconditionFailed(
+            PreconditionFailedException ex, 
+            HttpServletRequest request) {
+        
+        log(Level.WARN, "Precondition failed", ex, request, HttpStatus.PRECONDITION_FAILED);
+        
+        ApiError apiError = ApiError.of(
+            HttpStatus.PRECONDITION_FAILED.value(),
+            "PRECONDITION_FAILED",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(apiError);
+    }
+    
     /**
      * Handles optimistic locking failures.
      */
@@ -106,7 +139,7 @@ public class GlobalExceptionHandler {
             OptimisticLockingFailureException ex, 
             HttpServletRequest request) {
         
-        logger.warn("Optimistic locking failure on path {}: {}", request.getRequestURI(), ex.getMessage());
+        log(Level.WARN, "Optimistic locking failure", ex, request, HttpStatus.CONFLICT);
         
         ApiError apiError = ApiError.of(
             HttpStatus.CONFLICT.value(),
@@ -127,7 +160,7 @@ public class GlobalExceptionHandler {
             IllegalArgumentException ex, 
             HttpServletRequest request) {
         
-        logger.warn("Illegal argument on path {}: {}", request.getRequestURI(), ex.getMessage());
+        log(Level.WARN, "Illegal argument", ex, request, HttpStatus.BAD_REQUEST);
         
         ApiError apiError = ApiError.of(
             HttpStatus.BAD_REQUEST.value(),
@@ -147,7 +180,7 @@ public class GlobalExceptionHandler {
             DomainException ex, 
             HttpServletRequest request) {
         
-        logger.warn("Domain exception on path {}: {}", request.getRequestURI(), ex.getMessage());
+        log(Level.WARN, "Domain exception", ex, request, HttpStatus.BAD_REQUEST);
         
         ApiError apiError = ApiError.of(
             HttpStatus.BAD_REQUEST.value(),
@@ -161,13 +194,30 @@ public class GlobalExceptionHandler {
     
     /**
      * Handles all other runtime exceptions.
+     * Failures caused by no database connection being free in time are reported as 503 with
+     * Retry-After, since the request can succeed as is once the load drops.
      */
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiError> handleRuntimeException(
             RuntimeException ex, 
             HttpServletRequest request) {
         
-        logger.error("Unexpected runtime exception on path {}: {}", request.getRequestURI(), ex.getMessage(), ex);
+        if (isCausedBy(ex, SQLTransientConnectionException.class)) {
+            log(Level.WARN, "No database connection available", ex, request, HttpStatus.SERVICE_UNAVAILABLE);
+            
+            ApiError apiError = ApiError.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "SERVICE_UNAVAILABLE",
+                "Service is at capacity. Please try again later.",
+                request.getRequestURI()
+            );
+            
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(apiError);
+        }
+        
+        log(Level.ERROR, "Unexpected runtime exception", ex, request, HttpStatus.INTERNAL_SERVER_ERROR);
         
         ApiError apiError = ApiError.of(
             HttpStatus.INTERNAL_SERVER_ERROR.value(),
@@ -187,7 +237,7 @@ public class GlobalExceptionHandler {
             Exception ex, 
             HttpServletRequest request) {
         
-        logger.error("Unexpected exception on path {}: {}", request.getRequestURI(), ex.getMessage(), ex);
+        log(Level.ERROR, "Unexpected exception", ex, request, HttpStatus.INTERNAL_SERVER_ERROR);
         
         ApiError apiError = ApiError.of(
             HttpStatus.INTERNAL_SERVER_ERROR.value(),
@@ -198,4 +248,43 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(apiError);
     }
+    
+    private static boolean isCausedBy(Throwable ex, Class<? extends Throwable> type) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Logs a handled error unless the sampler suppresses it; errors are logged with their stack trace.
+     * 
+     * @param level the log level
+     * @param description what went wrong, prefixed to the log line
+     * @param ex the handled exception
+     * @param request the request that failed
+     * @param status the response status
+     */
+    private void log(Level level, String description, Exception ex, HttpServletRequest request, HttpStatus status) {
+        long suppressed = errorLogSampler.sample(ex, request, status);
+        if (suppressed == ErrorLogSampler.SUPPRESSED || !logger.isEnabledForLevel(level)) {
+            return;
+        }
+        
+        LoggingEventBuilder event = logger.atLevel(level)
+            .addArgument(description)
+            .addArgument(request.getRequestURI())
+            .addArgument(ex.getMessage());
+        if (suppressed > 0) {
+            event.setMessage("{} on path {}: {} ({} similar errors not logged)").addArgument(suppressed);
+        } else {
+            event.setMessage("{} on path {}: {}");
+        }
+        if (level == Level.ERROR) {
+            event.setCause(ex);
+        }
+        event.log();
+    }
 }
@@ -0,0 +1,291 @@
+package com.turkcell.product.service.adapter.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product.service.adapter.error.ApiError;
+import com.turkcell.product.service.adapter.rest.bulk.CsvExportRowWriter;
+import com.turkcell.product.service.adapter.rest.bulk.CsvImportRowReader;
+import com.turkcell.product.service.adapter.rest.bulk.ExportRowWriter;
+import com.turkcell.product.service.adapter.rest.bulk.ImportRow;
+import com.turkcell.product.service.adapter.rest.bulk.ImportRowReader;
+import com.turkcell.product.service.adapter.rest.bulk.NdjsonExportRowWriter;
+import com.turkcell.product.service.adapter.rest.bulk.NdjsonImportRowReader;
+import com.turkcell.product.service.adapter.rest.dto.BulkImportRowResult;
+import com.turkcell.product.service.adapter.rest.dto.CreateProductRequest;
+import com.turkcell.product.service.adapter.rest.dto.ProductResponse;
+import com.turkcell.product.service.adapter.rest.mapper.ProductMapper;
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.port.usecase.ExportProductsQuery;
+import com.turkcell.product.service.domain.port.usecase.ImportProductsUseCase;
+import com.turkcell.product.service.domain.port.usecase.ProductImportResult;
+import com.turkcell.product.service.infrastructure.logging.RequestLoggingFilter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller for bulk product operations.
+ * Imports and exports are streamed row by row, so memory use does not depend on the
+ * payload or catalog size.
+ */
+@RestController
+@RequestMapping("/api/v1/products")
+@Tag(name = "Products", description = "Product management API")
+public class ProductBulkController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProductBulkController.class);
+    
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    
+    private final ImportProductsUseCase importProductsUseCase;
+    private final ExportProductsQuery exportProductsQuery;
+    private final ProductMapper productMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxRowLength;
+    
+    public ProductBulkController(
+            ImportProductsUseCase importProductsUseCase,
+            ExportProductsQuery exportProductsQuery,
+            ProductMapper productMapper,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${product.bulk-import.chunk-size:1000}") int chunkSize,
+            @Value("${product.bulk-import.max-row-length:65536}") int maxRowLength) {
+        if (chunkSize < 1 || maxRowLength < 1) {
+            throw new IllegalArgumentException("Bulk import chunk size and max row length must be positive");
+        }
+        this.importProductsUseCase = importProductsUseCase;
+        this.exportProductsQuery = exportProductsQuery;
+        this.productMapper = productMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxRowLength = maxRowLength;
+    }
+    
+    /**
+     * Imports products from a streamed NDJSON or CSV payload.
+     */
+    @PostMapping(value = "/bulk", 
+                consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE}, 
+                produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Bulk import products", 
+              description = "Streams an NDJSON or CSV payload of products and returns one NDJSON result line per row. " +
+                            "Invalid or duplicate rows are reported without aborting the rest of the import.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import processed, see per-row results",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, 
+                                      schema = @Schema(implementation = BulkImportRowResult.class))),
+        @ApiResponse(responseCode = "400", description = "Unreadable payload",
+                    content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    public void importProducts(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.debug("Starting bulk import with content type {}", request.getContentType());
+        
+        Charset charset = request.getCharacterEncoding() != null 
+            ? Charset.forName(request.getCharacterEncoding()) 
+            : StandardCharsets.UTF_8;
+        BufferedReader body = new BufferedReader(new InputStreamReader(request.getInputStream(), charset));
+        ImportRowReader reader = TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(request.getContentType()))
+            ? new CsvImportRowReader(body, maxRowLength)
+            : new NdjsonImportRowReader(body, objectMapper, maxRowLength);
+        
+        // Read the first row before committing the response so a broken header still yields a 400
+        ImportRow row = reader.next();
+        
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+        
+        List<ChunkEntry> chunk = new ArrayList<>(chunkSize);
+        long rows = 0;
+        long created = 0;
+        
+        while (row != null) {
+            rows++;
+            chunk.add(toEntry(row));
+            if (chunk.size() >= chunkSize) {
+                created += flush(chunk, out);
+            }
+            row = reader.next();
+        }
+        created += flush(chunk, out);
+        
+        logger.debug("Finished bulk import: {} rows, {} created", rows, created);
+        RequestLoggingFilter.addLogField(request, "rows", rows);
+        RequestLoggingFilter.addLogField(request, "created", created);
+    }
+    
+    /**
+     * Streams the whole catalog as NDJSON or CSV.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export products", 
+              description = "Streams every product from a server-side cursor straight to the response. " +
+                            "Memory use stays flat regardless of catalog size; rows are in no particular order.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed",
+                    content = {
+                        @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, 
+                                schema = @Schema(implementation = ProductResponse.class)),
+                        @Content(mediaType = TEXT_CSV_VALUE)
+                    }),
+        @ApiResponse(responseCode = "400", description = "Unsupported format",
+                    content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    public void exportProducts(
+            @Parameter(description = "Output format: ndjson or csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        
+        boolean csv = switch (format.toLowerCase(Locale.ROOT)) {
+            case "csv" -> true;
+            case "ndjson" -> false;
+            default -> throw new IllegalArgumentException("Unsupported export format: " + format);
+        };
+        logger.debug("Starting {} export", format);
+        
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(csv ? TEXT_CSV_VALUE : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, 
+                          "attachment; filename=\"products." + (csv ? "csv" : "ndjson") + "\"");
+        
+        OutputStream out = new BufferedOutputStream(response.getOutputStream(), EXPORT_BUFFER_SIZE);
+        ExportRowWriter writer = csv
+            ? new CsvExportRowWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))
+            : new NdjsonExportRowWriter(out, objectMapper);
+        
+        writer.begin();
+        long exported = exportProductsQuery.exportProducts(product -> {
+            try {
+                writer.write(productMapper.toResponse(product));
+            } catch (IOException e) {
+                // Usually the client went away; abort the cursor instead of reading the rest of the table
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        
+        logger.debug("Finished {} export of {} products", format, exported);
+        RequestLoggingFilter.addLogField(request, "exported", exported);
+    }
+    
+    /**
+     * Validates a parsed row and turns it into a domain product.
+     */
+    private ChunkEntry toEntry(ImportRow row) {
+        if (!row.isParsed()) {
+            return new ChunkEntry(row.line(), null, null, row.error());
+        }
+        
+        CreateProductRequest request = row.request();
+        Set<ConstraintViolation<CreateProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+            return new ChunkEntry(row.line(), request.name(), null, error);
+        }
+        
+        try {
+            return new ChunkEntry(row.line(), request.name(), productMapper.toProduct(request), null);
+        } catch (IllegalArgumentException e) {
+            return new ChunkEntry(row.line(), request.name(), null, e.getMessage());
+        }
+    }
+    
+    /**
+     * Stores the valid products of a chunk and writes every row's result in payload order.
+     * 
+     * @return the number of created products
+     */
+    private long flush(List<ChunkEntry> chunk, OutputStream out) throws IOException {
+        List<Product> products = chunk.stream()
+            .map(ChunkEntry::product)
+            .filter(product -> product != null)
+            .toList();
+        
+        List<ProductImportResult> results = List.of();
+        String chunkError = null;
+        if (!products.isEmpty()) {
+            try {
+                results = importProductsUseCase.importProducts(products);
+            } catch (RuntimeException e) {
+                // Keep going: later chunks may still succeed, and rows of this one are reported
+                logger.error("Failed to store bulk import chunk of {} products", products.size(), e);
+                chunkError = "Chunk could not be stored, please retry these rows";
+            }
+        }
+        
+        long created = 0;
+        int resultIndex = 0;
+        for (ChunkEntry entry : chunk) {
+            BulkImportRowResult result;
+            if (entry.product() == null) {
+                result = BulkImportRowResult.invalid(entry.line(), entry.name(), entry.error());
+            } else if (chunkError != null) {
+                result = BulkImportRowResult.failed(entry.line(), entry.name(), chunkError);
+            } else if (results.get(resultIndex++).isCreated()) {
+                result = BulkImportRowResult.created(entry.line(), entry.product().getId().toString(), entry.name());
+                created++;
+            } else {
+                result = BulkImportRowResult.duplicate(entry.line(), entry.name());
+            }
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        }
+        out.flush();
+        
+        chunk.clear();
+        return created;
+    }
+    
+    /**
+     * A row waiting in the current chunk; product is null for rows that failed validation.
+     */
+    private record ChunkEntry(long line, String name, Product product, String error) {
+    }
+}
@@ -2,11 +2,27 @@ package com.turkcell.product.service.adapter.rest;
 
 import com.turkcell.product.service.domain.model.Product;
 import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductPatch;
+import com.turkcell.product.service.domain.model.ProductStatus;
+import com.turkcell.product.service.domain.model.ProductView;
+import com.turkcell.product.service.domain.port.repository.KeysetPage;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ProductField;
+import com.turkcell.product.service.domain.port.repository.ProductFilter;
+import com.turkcell.product.service.domain.port.repository.ProductListState;
+import com.turkcell.product.service.domain.port.repository.ProductSortField;
 import com.turkcell.product.service.domain.port.usecase.*;
 import com.turkcell.product.service.adapter.error.ApiError;
+import com.turkcell.product.service.adapter.rest.dto.BatchGetRequest;
+import com.turkcell.product.service.adapter.rest.dto.BatchGetResponse;
 import com.turkcell.product.service.adapter.rest.dto.CreateProductRequest;
+import com.turkcell.product.service.adapter.rest.dto.CursorPageResponse;
+import com.turkcell.product.service.adapter.rest.dto.PagedResponse;
+import com.turkcell.product.service.adapter.rest.dto.PatchProductRequest;
 import com.turkcell.product.service.adapter.rest.dto.ProductResponse;
 import com.turkcell.product.service.adapter.rest.dto.UpdateProductRequest;
+import com.turkcell.product.service.adapter.rest.mapper.ProductCursorCodec;
+import com.turkcell.product.service.adapter.rest.mapper.ProductFieldsMapper;
 import com.turkcell.product.service.adapter.rest.mapper.ProductMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,16 +34,28 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * REST Controller for Product CRUD operations.
@@ -41,26 +69,42 @@ public class ProductController {
     
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
     
+    private static final int MAX_BATCH_SIZE = 100;
+    
+    private static final Set<ProductField> ALL_FIELDS = EnumSet.allOf(ProductField.class);
+    
     private final CreateProductUseCase createProductUseCase;
     private final UpdateProductUseCase updateProductUseCase;
+    private final PatchProductUseCase patchProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
     private final GetProductByIdQuery getProductByIdQuery;
     private final ListProductsQuery listProductsQuery;
     private final ProductMapper productMapper;
+    private final ProductCursorCodec cursorCodec;
+    private final ProductFieldsMapper fieldsMapper;
+    private final ProductResponseByteCache responseByteCache;
     
     public ProductController(
             CreateProductUseCase createProductUseCase,
             UpdateProductUseCase updateProductUseCase,
+            PatchProductUseCase patchProductUseCase,
             DeleteProductUseCase deleteProductUseCase,
             GetProductByIdQuery getProductByIdQuery,
             ListProductsQuery listProductsQuery,
-            ProductMapper productMapper) {
+            ProductMapper productMapper,
+            ProductCursorCodec cursorCodec,
+            ProductFieldsMapper fieldsMapper,
+            ProductResponseByteCache responseByteCache) {
         this.createProductUseCase = createProductUseCase;
         this.updateProductUseCase = updateProductUseCase;
+        this.patchProductUseCase = patchProductUseCase;
         this.deleteProductUseCase = deleteProductUseCase;
         this.getProductByIdQuery = getProductByIdQuery;
         this.listProductsQuery = listProductsQuery;
         this.productMapper = productMapper;
+        this.cursorCodec = cursorCodec;
+        this.fieldsMapper = fieldsMapper;
+        this.responseByteCache = responseByteCache;
     }
     
     /**
@@ -79,7 +123,7 @@ public class ProductController {
     public ResponseEntity<ProductResponse> createProduct(
             @Valid @RequestBody CreateProductRequest request) {
         
-        logger.info("Creating new product: {}", request.name());
+        logger.debug("Creating new product: {}", request.name());
         
         Product product = productMapper.toProduct(request);
         Product createdProduct = createProductUseCase.createProduct(product);
@@ -87,47 +131,258 @@ public class ProductController {
         
         URI location = URI.create("/api/v1/products/" + response.id());
         
-        logger.info("Successfully created product with ID: {}", response.id());
-        return ResponseEntity.created(location).body(response);
+        logger.debug("Successfully created product with ID: {}", response.id());
+        return ResponseEntity.created(location)
+                .eTag(ProductETags.of(createdProduct.getVersion()))
+                .body(response);
     }
     
     /**
      * Retrieves all products with pagination.
      */
     @GetMapping
-    @Operation(summary = "List all products", description = "Retrieves a paginated list of all products")
+    @Operation(summary = "List all products", 
+              description = "Retrieves a paginated list of all products, optionally narrowed by a full-text search")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Invalid pagination parameters",
                     content = @Content(schema = @Schema(implementation = ApiError.class)))
     })
-    public ResponseEntity<Page<ProductResponse>> listProducts(
+    public ResponseEntity<PagedResponse<?>> listProducts(
             @Parameter(description = "Page number (0-based)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             
             @Parameter(description = "Page size", example = "20")
             @RequestParam(defaultValue = "20") int size,
             
-            @Parameter(description = "Sort field", example = "name")
+            @Parameter(description = "Sort field: createdAt, updatedAt, name or priceAmount", example = "name")
             @RequestParam(defaultValue = "createdAt") String sortBy,
             
             @Parameter(description = "Sort direction", example = "desc")
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            
+            @Parameter(description = "How to compute totals: none (hasNext only), approximate (from statistics) or exact (COUNT query)", 
+                      example = "exact")
+            @RequestParam(defaultValue = "exact") String totalMode,
+            
+            @Parameter(description = "Comma-separated subset of product fields to return; all fields when omitted", 
+                      example = "id,name,priceDisplay")
+            @RequestParam(required = false) String fields,
+            
+            @Parameter(description = "Full-text search over name and description; results are ordered by relevance " +
+                                     "and sortBy/sortDir are ignored", example = "kablosuz kulaklık")
+            @RequestParam(required = false) String search,
+            
+            @Parameter(description = "Lowest price to include", example = "100.00")
+            @RequestParam(required = false) BigDecimal minPrice,
+            
+            @Parameter(description = "Highest price to include", example = "5000.00")
+            @RequestParam(required = false) BigDecimal maxPrice,
+            
+            @Parameter(description = "Only products with this status", example = "ACTIVE")
+            @RequestParam(required = false) String status,
+            
+            @Parameter(description = "true for products in stock, false for products out of stock", example = "true")
+            @RequestParam(required = false) Boolean inStock,
+            
+            WebRequest webRequest) {
         
-        logger.debug("Listing products: page={}, size={}, sortBy={}, sortDir={}", 
-                    page, size, sortBy, sortDir);
+        logger.debug("Listing products: page={}, size={}, sortBy={}, sortDir={}, totalMode={}, fields={}, search={}", 
+                    page, size, sortBy, sortDir, totalMode, fields, search);
         
+        // Validate every parameter before the ETag check, so an invalid request is a 400 rather than a 304
+        ProductFilter filter = toFilter(minPrice, maxPrice, status, inStock);
+        TotalCountMode countMode = TotalCountMode.fromString(totalMode);
         Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? 
             Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        boolean searching = search != null && !search.isBlank();
+        if (!searching) {
+            ProductSortField.requireSupported(pageable.getSort());
+        }
+        Set<String> responseFields = fields != null ? fieldsMapper.parse(fields) : null;
+        String totalModeName = countMode.name().toLowerCase(Locale.ROOT);
+        
+        String eTag = listETag(webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         
-        Page<Product> productPage = listProductsQuery.listProducts(pageable);
-        Page<ProductResponse> responsePage = productPage.map(productMapper::toResponse);
+        PagedResponse<?> response;
+        if (searching) {
+            Slice<Product> productSlice = listProductsQuery.searchProducts(
+                search, filter, PageRequest.of(page, size), countMode);
+            if (responseFields != null) {
+                response = PagedResponse.of(productSlice.map(product -> 
+                    fieldsMapper.toSparseResponse(ProductView.of(product), responseFields)), totalModeName);
+            } else {
+                response = PagedResponse.of(productSlice.map(productMapper::toResponse), totalModeName);
+            }
+        } else if (responseFields != null) {
+            Slice<ProductView> viewSlice = listProductsQuery.listProducts(
+                pageable, filter, countMode, fieldsMapper.storedFieldsFor(responseFields));
+            response = PagedResponse.of(
+                viewSlice.map(view -> fieldsMapper.toSparseResponse(view, responseFields)), totalModeName);
+        } else if (!filter.isEmpty()) {
+            // Filtered listings are read with SQL anyway; map the rows straight to responses
+            Slice<ProductView> viewSlice = listProductsQuery.listProducts(pageable, filter, countMode, ALL_FIELDS);
+            response = PagedResponse.of(viewSlice.map(productMapper::toResponse), totalModeName);
+        } else {
+            Slice<Product> productSlice = listProductsQuery.listProducts(pageable, filter, countMode);
+            response = PagedResponse.of(productSlice.map(productMapper::toResponse), totalModeName);
+        }
         
-        logger.debug("Retrieved {} products out of {} total", 
-                    responsePage.getNumberOfElements(), responsePage.getTotalElements());
+        logger.debug("Retrieved {} products, total={} ({})", 
+                    response.numberOfElements(), response.totalElements(), response.totalMode());
         
-        return ResponseEntity.ok(responsePage);
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+    
+    /**
+     * Retrieves products with keyset (cursor-based) pagination.
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll through products", 
+              description = "Retrieves products page by page using an opaque cursor. " +
+                            "Page cost stays constant no matter how deep the client scrolls.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag sent in If-None-Match"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or pagination parameters",
+                    content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    public ResponseEntity<CursorPageResponse<ProductResponse>> scrollProducts(
+            @Parameter(description = "Cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Page size (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            
+            @Parameter(description = "Sort field, ignored when a cursor is given", example = "createdAt")
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            
+            @Parameter(description = "Sort direction, ignored when a cursor is given", example = "desc")
+            @RequestParam(defaultValue = "desc") String sortDir,
+            
+            @Parameter(description = "Lowest price to include; send the same filters with every cursor", example = "100.00")
+            @RequestParam(required = false) BigDecimal minPrice,
+            
+            @Parameter(description = "Highest price to include", example = "5000.00")
+            @RequestParam(required = false) BigDecimal maxPrice,
+            
+            @Parameter(description = "Only products with this status", example = "ACTIVE")
+            @RequestParam(required = false) String status,
+            
+            @Parameter(description = "true for products in stock, false for products out of stock", example = "true")
+            @RequestParam(required = false) Boolean inStock,
+            
+            WebRequest webRequest) {
+        
+        logger.debug("Scrolling products: cursor={}, size={}, sortBy={}, sortDir={}", 
+                    cursor, size, sortBy, sortDir);
+        
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("Page size must be between 1 and 100");
+        }
+        ProductFilter filter = toFilter(minPrice, maxPrice, status, inStock);
+        ProductCursor position;
+        if (cursor != null && !cursor.isBlank()) {
+            position = cursorCodec.decode(cursor);
+        } else {
+            ProductSortField sortField = ProductSortField.fromProperty(sortBy)
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort field: " + sortBy));
+            Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+            position = ProductCursor.first(sortField, direction);
+        }
+        
+        String eTag = listETag(webRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        KeysetPage<ProductResponse> page = listProductsQuery.listProducts(position, filter, size)
+            .map(productMapper::toResponse);
+        CursorPageResponse<ProductResponse> response = new CursorPageResponse<>(
+            page.content(),
+            page.content().size(),
+            page.hasNext(),
+            cursorCodec.encode(page.nextCursor())
+        );
+        
+        logger.debug("Retrieved {} products, hasNext={}", response.size(), response.hasNext());
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+    
+    /**
+     * Retrieves several products by ID with a single query.
+     */
+    @PostMapping("/batch-get")
+    @Operation(summary = "Get products by IDs", 
+              description = "Retrieves up to 100 products in one round trip. Results follow the request order; " +
+                            "unknown and malformed IDs are reported instead of failing the request.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup completed",
+                    content = @Content(schema = @Schema(implementation = BatchGetResponse.class))),
+        @ApiResponse(responseCode = "400", description = "No IDs, more than 100 IDs or a null or blank ID",
+                    content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    public ResponseEntity<BatchGetResponse> batchGetProducts(@Valid @RequestBody BatchGetRequest request) {
+        return ResponseEntity.ok(getProductsByIds(request.ids()));
+    }
+    
+    /**
+     * Retrieves several products by ID given as a query parameter.
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get products by IDs (query)", 
+              description = "Same as POST /batch-get with the IDs given as a comma-separated query parameter")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup completed",
+                    content = @Content(schema = @Schema(implementation = BatchGetResponse.class))),
+        @ApiResponse(responseCode = "400", description = "No IDs or more than 100 IDs",
+                    content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    public ResponseEntity<BatchGetResponse> getProductsByIdsParam(
+            @Parameter(description = "Comma-separated product IDs (at most 100)", 
+                      example = "123e4567-e89b-12d3-a456-426614174000,123e4567-e89b-12d3-a456-426614174001")
+            @RequestParam List<String> ids) {
+        
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_BATCH_SIZE + " product IDs must be given");
+        }
+        return ResponseEntity.ok(getProductsByIds(ids));
+    }
+    
+    private BatchGetResponse getProductsByIds(List<String> rawIds) {
+        logger.debug("Getting {} products by ID", rawIds.size());
+        
+        Set<ProductId> ids = new LinkedHashSet<>();
+        List<String> invalidIds = new ArrayList<>();
+        for (String rawId : rawIds) {
+            try {
+                ids.add(ProductId.fromString(rawId.trim()));
+            } catch (IllegalArgumentException e) {
+                invalidIds.add(rawId);
+            }
+        }
+        
+        Map<ProductId, Product> found = ids.isEmpty() ? Map.of() : getProductByIdQuery.getProductsByIds(List.copyOf(ids));
+        
+        List<ProductResponse> products = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (ProductId id : ids) {
+            Product product = found.get(id);
+            if (product != null) {
+                products.add(productMapper.toResponse(product));
+            } else {
+                missingIds.add(id.toString());
+            }
+        }
+        
+        logger.debug("Found {} products, {} missing, {} invalid", products.size(), missingIds.size(), invalidIds.size());
+        return new BatchGetResponse(products, missingIds, invalidIds);
     }
     
     /**
@@ -138,23 +393,134 @@ public class ProductController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Product found",
                     content = @Content(schema = @Schema(implementation = ProductResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Product unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Product not found",
                     content = @Content(schema = @Schema(implementation = ApiError.class))),
         @ApiResponse(responseCode = "400", description = "Invalid product ID format",
                     content = @Content(schema = @Schema(implementation = ApiError.class)))
     })
-    public ResponseEntity<ProductResponse> getProductById(
+    public ResponseEntity<?> getProductById(
             @Parameter(description = "Product ID", example = "123e4567-e89b-12d3-a456-426614174000")
-            @PathVariable String id) {
+            @PathVariable String id,
+            
+            @Parameter(description = "Comma-separated subset of product fields to return; all fields when omitted", 
+                      example = "id,name,priceDisplay")
+            @RequestParam(required = false) String fields,
+            
+            WebRequest webRequest) {
         
         logger.debug("Getting product by ID: {}", id);
         
         ProductId productId = ProductId.fromString(id);
+        Set<String> responseFields = fields != null ? fieldsMapper.parse(fields) : null;
+        
+        if (responseFields == null) {
+            MediaType contentType = responseByteCache.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+            if (contentType != null) {
+                return getSerializedProduct(productId, contentType, webRequest);
+            }
+        }
+        
+        // Revalidation only needs the version: no product is loaded and no body is serialized for a 304
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> version = getProductByIdQuery.getProductVersion(productId);
+            if (version.isPresent() && webRequest.checkNotModified(ProductETags.of(version.get(), responseFields))) {
+                logger.debug("Product {} not modified", id);
+                return null;
+            }
+        }
+        
+        if (responseFields != null) {
+            Set<ProductField> storedFields = EnumSet.noneOf(ProductField.class);
+            storedFields.addAll(fieldsMapper.storedFieldsFor(responseFields));
+            storedFields.add(ProductField.VERSION);
+            
+            ProductView view = getProductByIdQuery.getProductById(productId, storedFields);
+            Map<String, Object> response = fieldsMapper.toSparseResponse(view, responseFields);
+            
+            logger.debug("Found product {} with fields {}", id, responseFields);
+            return ResponseEntity.ok()
+                    .eTag(ProductETags.of(view.version(), responseFields))
+                    .body(response);
+        }
+        
         Product product = getProductByIdQuery.getProductById(productId);
         ProductResponse response = productMapper.toResponse(product);
         
         logger.debug("Found product: {}", product.getName());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ProductETags.of(product.getVersion()))
+                .body(response);
+    }
+    
+    /**
+     * Builds the weak ETag of a list page.
+     * Only a conditional request needs the current state; an unconditional one is tagged with a
+     * recently read state, which can only make a later revalidation miss, never wrongly match.
+     */
+    private String listETag(WebRequest webRequest) {
+        ProductListState state = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+            ? listProductsQuery.getListState()
+            : listProductsQuery.getRecentListState();
+        return ProductETags.forList(state, webRequest.getParameterMap());
+    }
+    
+    /**
+     * Builds the listing filter from request parameters.
+     */
+    private static ProductFilter toFilter(BigDecimal minPrice, BigDecimal maxPrice, String status, Boolean inStock) {
+        ProductStatus productStatus = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                productStatus = ProductStatus.valueOf(status.strip().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported status: " + status);
+            }
+        }
+        return new ProductFilter(minPrice, maxPrice, productStatus, inStock);
+    }
+    
+    /**
+     * Writes the cached bytes of the current product version, serializing them only on a miss.
+     * Revalidation only needs the version, so a 304 neither loads nor serializes the product.
+     */
+    private ResponseEntity<byte[]> getSerializedProduct(ProductId productId, MediaType contentType, WebRequest webRequest) {
+        Optional<Long> version = getProductByIdQuery.getProductVersion(productId);
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean acceptsGzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && version.isPresent()) {
+            // Whether the body would be gzipped depends on its size, so accept the tag of either coding.
+            // Only a tag the client sent is checked: a failed check still sets the ETag header, and the
+            // tag of the body sent afterwards would not replace it.
+            String gzipETag = ProductETags.of(version.get(), contentType, true);
+            String eTag = acceptsGzip && ifNoneMatch.contains(gzipETag) 
+                ? gzipETag 
+                : ProductETags.of(version.get(), contentType, false);
+            if ((ifNoneMatch.contains(eTag) || ifNoneMatch.trim().equals("*")) && webRequest.checkNotModified(eTag)) {
+                logger.debug("Product {} not modified", productId);
+                return null;
+            }
+        }
+        
+        ProductResponseByteCache.SerializedResponse response = version.isPresent() 
+            ? responseByteCache.get(productId, contentType, version.get()) 
+            : null;
+        if (response == null) {
+            response = responseByteCache.put(getProductByIdQuery.getProductById(productId), contentType);
+        }
+        
+        boolean gzipped = acceptsGzip && response.gzippedBody() != null;
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(response.contentType())
+                .eTag(response.eTag(gzipped))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzipped ? response.gzippedBody() : response.body());
     }
     
     /**
@@ -178,7 +544,7 @@ public class ProductController {
             
             @Valid @RequestBody UpdateProductRequest request) {
         
-        logger.info("Updating product with ID: {}", id);
+        logger.debug("Updating product with ID: {}", id);
         
         // Validate that at least one field is provided for update
         if (!request.hasUpdates()) {
@@ -192,10 +558,61 @@ public class ProductController {
         Product productToUpdate = productMapper.toProductForUpdate(request, existingProduct);
         
         Product updatedProduct = updateProductUseCase.updateProduct(productId, productToUpdate);
+        responseByteCache.evict(productId);
         ProductResponse response = productMapper.toResponse(updatedProduct);
         
-        logger.info("Successfully updated product with ID: {}", id);
-        return ResponseEntity.ok(response);
+        logger.debug("Successfully updated product with ID: {}", id);
+        return ResponseEntity.ok()
+                .eTag(ProductETags.of(updatedProduct.getVersion()))
+                .body(response);
+    }
+    
+    /**
+     * Conditionally applies a partial change to a product.
+     */
+    @PatchMapping("/{id}")
+    @Operation(summary = "Patch product", 
+              description = "Applies the given fields if the product is still at the version in the If-Match header. " +
+                            "The product is read once and written with a single version-guarded statement.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Product patched successfully",
+                    content = @Content(schema = @Schema(implementation = ProductResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data or missing If-Match header",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(responseCode = "404", description = "Product not found",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(responseCode = "409", description = "Product with same name already exists",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(responseCode = "412", description = "Product is no longer at the expected version",
+                    content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    public ResponseEntity<ProductResponse> patchProduct(
+            @Parameter(description = "Product ID", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable String id,
+            
+            @Parameter(description = "ETag of the product version the change is based on", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            
+            @Valid @RequestBody PatchProductRequest request) {
+        
+        logger.debug("Patching product with ID: {}", id);
+        
+        long expectedVersion = ProductETags.parseIfMatch(ifMatch)
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "If-Match header with the product's ETag (e.g. \"3\") is required"));
+        
+        ProductPatch patch = productMapper.toPatch(request);
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be provided for update");
+        }
+        
+        Product patchedProduct = patchProductUseCase.patchProduct(ProductId.fromString(id), expectedVersion, patch);
+        responseByteCache.evict(patchedProduct.getId());
+        
+        logger.debug("Successfully patched product with ID: {}", id);
+        return ResponseEntity.ok()
+                .eTag(ProductETags.of(patchedProduct.getVersion()))
+                .body(productMapper.toResponse(patchedProduct));
     }
     
     /**
@@ -214,12 +631,13 @@ public class ProductController {
             @Parameter(description = "Product ID", example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable String id) {
         
-        logger.info("Deleting product with ID: {}", id);
+        logger.debug("Deleting product with ID: {}", id);
         
         ProductId productId = ProductId.fromString(id);
         deleteProductUseCase.deleteProduct(productId);
+        responseByteCache.evict(productId);
         
-        logger.info("Successfully deleted product with ID: {}", id);
+        logger.debug("Successfully deleted product with ID: {}", id);
         return ResponseEntity.noContent().build();
     }
 }
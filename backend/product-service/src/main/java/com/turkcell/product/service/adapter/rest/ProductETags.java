@@ -0,0 +1,115 @@
+package com.turkcell.product.service.adapter.rest;
+
+import com.turkcell.product.service.domain.port.repository.ProductListState;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Entity tags for product resources.
+ * A product's strong ETag is its version in quotes, e.g. {@code "3"}; sparse representations
+ * append their field list, and CBOR or gzipped bodies their media type and content coding
+ * (e.g. {@code "3-cbor-gzip"}), so different bytes never share a strong ETag. List pages carry a weak ETag derived from the newest
+ * {@code updatedAt}, the number of deletions and the query parameters, so creating, updating
+ * or deleting any product changes the ETag of every list page.
+ */
+final class ProductETags {
+    
+    private ProductETags() {
+    }
+    
+    /**
+     * Builds the strong ETag of a product version.
+     * 
+     * @param version the product version
+     * @return the quoted ETag
+     */
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+    
+    /**
+     * Builds the strong ETag of a product version in a given representation.
+     * 
+     * @param version the product version
+     * @param fields the sparse field set, or null for the full representation
+     * @return the quoted ETag
+     */
+    static String of(long version, Set<String> fields) {
+        return fields == null ? of(version) : "\"" + version + ";" + String.join(",", new TreeSet<>(fields)) + "\"";
+    }
+    
+    /**
+     * Builds the strong ETag of a product version in a given media type and content coding.
+     * Uncompressed JSON keeps the plain version tag that writes return.
+     * 
+     * @param version the product version
+     * @param contentType JSON or CBOR
+     * @param gzipped whether the body is gzip-encoded
+     * @return the quoted ETag
+     */
+    static String of(long version, MediaType contentType, boolean gzipped) {
+        StringBuilder tag = new StringBuilder().append('"').append(version);
+        if (!MediaType.APPLICATION_JSON.equals(contentType)) {
+            tag.append('-').append(contentType.getSubtype());
+        }
+        if (gzipped) {
+            tag.append("-gzip");
+        }
+        return tag.append('"').toString();
+    }
+    
+    /**
+     * Builds the weak ETag of a list page.
+     * 
+     * @param state the newest updatedAt and number of deletions across all products
+     * @param parameters the request parameters selecting the page
+     * @return the weak ETag
+     */
+    static String forList(ProductListState state, Map<String, String[]> parameters) {
+        StringBuilder key = new StringBuilder()
+            .append(state.lastModified() != null ? state.lastModified().toString() : "empty")
+            .append('/').append(state.deletions());
+        new TreeMap<>(parameters).forEach((name, values) -> 
+            key.append('&').append(name).append('=').append(Arrays.toString(values)));
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+    
+    /**
+     * Reads the expected version from an If-Match header.
+     * Any strong tag of a product version is accepted, whatever representation it was sent
+     * with; weak tags never match for If-Match, so they are rejected like malformed ones.
+     * 
+     * @param ifMatch the If-Match header value
+     * @return the expected version, or empty if the header holds no single strong version tag
+     */
+    static OptionalLong parseIfMatch(String ifMatch) {
+        if (ifMatch == null) {
+            return OptionalLong.empty();
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return OptionalLong.empty();
+        }
+        int end = 1;
+        while (end < tag.length() - 1 && Character.isDigit(tag.charAt(end))) {
+            end++;
+        }
+        if (end < tag.length() - 1 && tag.charAt(end) != '-' && tag.charAt(end) != ';') {
+            return OptionalLong.empty();
+        }
+        try {
+            long version = Long.parseLong(tag.substring(1, end));
+            return version >= 0 ? OptionalLong.of(version) : OptionalLong.empty();
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.turkcell.product.service.adapter.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.turkcell.product.service.adapter.rest.mapper.ProductMapper;
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of serialized product detail responses.
+ * Entries are keyed by product ID and content type and hold the bytes of one product version,
+ * plus a gzipped copy for larger bodies. A hit is only used when its version matches the
+ * current one, so writes that bypass this cache (e.g. bulk import) can never serve stale bytes;
+ * a mismatch simply re-serializes and replaces the entry.
+ */
+@Component
+public class ProductResponseByteCache {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProductResponseByteCache.class);
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    
+    private final Cache<Key, SerializedResponse> responses;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final ProductMapper productMapper;
+    private final int gzipMinSize;
+    
+    public ProductResponseByteCache(
+            @Value("${product.response-cache.maximum-weight:64MB}") DataSize maximumWeight,
+            @Value("${product.response-cache.ttl:PT10M}") Duration ttl,
+            @Value("${product.response-cache.gzip-min-size:1KB}") DataSize gzipMinSize,
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+            ProductMapper productMapper,
+            MeterRegistry meterRegistry) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((Key key, SerializedResponse response) -> response.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.jsonMapper = objectMapper;
+        this.cborMapper = cborHttpMessageConverter.getObjectMapper();
+        this.productMapper = productMapper;
+        this.gzipMinSize = (int) gzipMinSize.toBytes();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "product.response.bytes");
+    }
+    
+    /**
+     * Picks the cached representation for an Accept header.
+     * 
+     * @param accept the Accept header value, may be null
+     * @return JSON or CBOR, or null when neither is acceptable
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isEmpty() || accept.equals(MediaType.ALL_VALUE) 
+                || accept.equals(MediaType.APPLICATION_JSON_VALUE)) {
+            return MediaType.APPLICATION_JSON;
+        }
+        if (accept.equals(MediaType.APPLICATION_CBOR_VALUE)) {
+            return MediaType.APPLICATION_CBOR;
+        }
+        
+        try {
+            MediaType selected = null;
+            double selectedQuality = 0;
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                double quality = type.getQualityValue();
+                if (quality <= selectedQuality) {
+                    continue;
+                }
+                if (type.includes(MediaType.APPLICATION_JSON)) {
+                    selected = MediaType.APPLICATION_JSON;
+                    selectedQuality = quality;
+                } else if (type.includes(MediaType.APPLICATION_CBOR)) {
+                    selected = MediaType.APPLICATION_CBOR;
+                    selectedQuality = quality;
+                }
+            }
+            return selected;
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Returns the cached bytes of a product version.
+     * 
+     * @param id the product ID
+     * @param contentType JSON or CBOR
+     * @param version the current product version
+     * @return the cached response, or null when absent or of another version
+     */
+    public SerializedResponse get(ProductId id, MediaType contentType, long version) {
+        SerializedResponse cached = responses.getIfPresent(new Key(id, contentType));
+        return cached != null && cached.version() == version ? cached : null;
+    }
+    
+    /**
+     * Serializes a product and caches the bytes, unless a newer version is already cached.
+     * 
+     * @param product the product to serialize
+     * @param contentType JSON or CBOR
+     * @return the serialized response of the given product
+     */
+    public SerializedResponse put(Product product, MediaType contentType) {
+        SerializedResponse serialized = serialize(product, contentType);
+        responses.asMap().merge(new Key(product.getId(), contentType), serialized, (cached, fresh) -> 
+            cached.version() > fresh.version() ? cached : fresh);
+        return serialized;
+    }
+    
+    /**
+     * Drops all cached representations of a product.
+     * 
+     * @param id the product ID
+     */
+    public void evict(ProductId id) {
+        responses.invalidate(new Key(id, MediaType.APPLICATION_JSON));
+        responses.invalidate(new Key(id, MediaType.APPLICATION_CBOR));
+        logger.trace("Evicted serialized responses of product {}", id);
+    }
+    
+    private SerializedResponse serialize(Product product, MediaType contentType) {
+        ObjectMapper mapper = MediaType.APPLICATION_CBOR.equals(contentType) ? cborMapper : jsonMapper;
+        try {
+            byte[] body = mapper.writeValueAsBytes(productMapper.toResponse(product));
+            byte[] gzippedBody = body.length >= gzipMinSize ? gzip(body) : null;
+            if (gzippedBody != null && gzippedBody.length >= body.length) {
+                gzippedBody = null;
+            }
+            return new SerializedResponse(product.getVersion(), contentType, body, gzippedBody);
+        } catch (IOException e) {
+            logger.error("Error serializing product {}: {}", product.getId(), e.getMessage(), e);
+            throw new RuntimeException("Failed to serialize product", e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+    
+    private record Key(ProductId id, MediaType contentType) {
+    }
+    
+    /**
+     * Ready-to-send bytes of one product version in one content type.
+     * 
+     * @param version the product version the bytes were produced from
+     * @param contentType the content type of the body
+     * @param body the serialized body
+     * @param gzippedBody the gzipped body, or null when the body is too small to benefit
+     */
+    public record SerializedResponse(long version, MediaType contentType, byte[] body, byte[] gzippedBody) {
+        
+        /**
+         * Returns the strong ETag of the body that is sent.
+         * 
+         * @param gzipped whether the gzipped body is sent
+         * @return the ETag of that representation
+         */
+        public String eTag(boolean gzipped) {
+            return ProductETags.of(version, contentType, gzipped);
+        }
+        
+        int weight() {
+            return ENTRY_OVERHEAD_BYTES + body.length + (gzippedBody != null ? gzippedBody.length : 0);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.turkcell.product.service.adapter.rest;
+
+import com.turkcell.product.service.adapter.error.ApiError;
+import com.turkcell.product.service.adapter.rest.dto.CursorPageResponse;
+import com.turkcell.product.service.adapter.rest.dto.ProductResponse;
+import com.turkcell.product.service.adapter.rest.mapper.ProductCursorCodec;
+import com.turkcell.product.service.adapter.rest.mapper.ProductMapper;
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ProductSortField;
+import com.turkcell.product.service.domain.port.usecase.ReactiveGetProductByIdQuery;
+import com.turkcell.product.service.domain.port.usecase.ReactiveListProductsQuery;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read endpoints backed by R2DBC, active with the "reactive" profile.
+ * The Mono and Flux results are handled asynchronously by Spring MVC, so the request thread is
+ * released while the database works; streamed results are written one element per demand.
+ */
+@RestController
+@RequestMapping("/api/v1/reactive/products")
+@Validated
+@Profile("reactive")
+@Tag(name = "Products (reactive)", description = "Non-blocking product read API")
+public class ReactiveProductController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveProductController.class);
+    
+    private final ReactiveGetProductByIdQuery getProductByIdQuery;
+    private final ReactiveListProductsQuery listProductsQuery;
+    private final ProductMapper productMapper;
+    private final ProductCursorCodec cursorCodec;
+    
+    public ReactiveProductController(
+            ReactiveGetProductByIdQuery getProductByIdQuery,
+            ReactiveListProductsQuery listProductsQuery,
+            ProductMapper productMapper,
+            ProductCursorCodec cursorCodec) {
+        this.getProductByIdQuery = getProductByIdQuery;
+        this.listProductsQuery = listProductsQuery;
+        this.productMapper = productMapper;
+        this.cursorCodec = cursorCodec;
+    }
+    
+    /**
+     * Retrieves a specific product by ID.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get product by ID", description = "Retrieves a specific product by its ID without blocking")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Product found",
+                    content = @Content(schema = @Schema(implementation = ProductResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Product not found",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid product ID format",
+                    content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    public Mono<ProductResponse> getProductById(
+            @Parameter(description = "Product ID", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable String id) {
+        
+        logger.debug("Getting product by ID: {}", id);
+        
+        return getProductByIdQuery.getProductById(ProductId.fromString(id))
+                .map(productMapper::toResponse);
+    }
+    
+    /**
+     * Retrieves products page by page using a cursor.
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll through products", 
+              description = "Retrieves products page by page using an opaque cursor, without blocking")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or pagination parameters",
+                    content = @Content(schema = @Schema(implementation = ApiError.class)))
+    })
+    public Mono<CursorPageResponse<ProductResponse>> scrollProducts(
+            @Parameter(description = "Cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Page size (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            
+            @Parameter(description = "Sort field, ignored when a cursor is given", example = "createdAt")
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            
+            @Parameter(description = "Sort direction, ignored when a cursor is given", example = "desc")
+            @RequestParam(defaultValue = "desc") String sortDir) {
+        
+        logger.debug("Scrolling products: cursor={}, size={}, sortBy={}, sortDir={}", 
+                    cursor, size, sortBy, sortDir);
+        
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("Page size must be between 1 and 100");
+        }
+        
+        ProductCursor position;
+        if (cursor != null && !cursor.isBlank()) {
+            position = cursorCodec.decode(cursor);
+        } else {
+            ProductSortField sortField = ProductSortField.fromProperty(sortBy)
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort field: " + sortBy));
+            Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+            position = ProductCursor.first(sortField, direction);
+        }
+        
+        return listProductsQuery.listProducts(position, size)
+                .map(page -> page.map(productMapper::toResponse))
+                .map(page -> new CursorPageResponse<>(
+                    page.content(),
+                    page.content().size(),
+                    page.hasNext(),
+                    cursorCodec.encode(page.nextCursor())
+                ));
+    }
+    
+    /**
+     * Streams the whole catalog as newline-delimited JSON.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all products", 
+              description = "Streams every product ordered by ID as NDJSON. Rows are read from the database " +
+                            "only as fast as the client consumes them.")
+    @ApiResponse(responseCode = "200", description = "Product stream")
+    public Flux<ProductResponse> streamProducts() {
+        logger.debug("Streaming all products");
+        
+        return listProductsQuery.streamProducts()
+                .map(productMapper::toResponse);
+    }
+}
@@ -0,0 +1,77 @@
+package com.turkcell.product.service.adapter.rest.bulk;
+
+import com.turkcell.product.service.adapter.rest.dto.ProductResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes RFC 4180 CSV with a header row.
+ * The columns are a superset of what {@link CsvImportRowReader} reads, so an export can be imported again.
+ */
+public class CsvExportRowWriter implements ExportRowWriter {
+    
+    private static final String HEADER = 
+        "id,name,description,priceAmount,priceCurrency,stockQuantity,status,createdAt,updatedAt,version\r\n";
+    
+    private final Writer writer;
+    
+    public CsvExportRowWriter(Writer writer) {
+        this.writer = writer;
+    }
+    
+    @Override
+    public void begin() throws IOException {
+        writer.write(HEADER);
+    }
+    
+    @Override
+    public void write(ProductResponse product) throws IOException {
+        writer.write(product.id().toString());
+        writer.write(',');
+        writeField(product.name());
+        writer.write(',');
+        writeField(product.description());
+        writer.write(',');
+        writer.write(product.priceAmount().toPlainString());
+        writer.write(',');
+        writer.write(product.priceCurrency());
+        writer.write(',');
+        writer.write(String.valueOf(product.stockQuantity()));
+        writer.write(',');
+        writer.write(product.status().name());
+        writer.write(',');
+        writer.write(String.valueOf(product.createdAt()));
+        writer.write(',');
+        writer.write(String.valueOf(product.updatedAt()));
+        writer.write(',');
+        writer.write(String.valueOf(product.version()));
+        writer.write("\r\n");
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+    
+    /**
+     * Writes a free-text value, quoting it when it contains separators, quotes or line breaks.
+     */
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,189 @@
+package com.turkcell.product.service.adapter.rest.bulk;
+
+import com.turkcell.product.service.adapter.rest.dto.CreateProductRequest;
+import com.turkcell.product.service.domain.model.ProductStatus;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads RFC 4180 CSV with a header row.
+ * Supported columns are {@code name, description, priceAmount, priceCurrency, stockQuantity, status};
+ * quoted values may contain separators, escaped quotes and line breaks.
+ * A record longer than the configured limit, or a quote that is never closed, is reported as an
+ * invalid row; the reader never buffers more than the limit.
+ */
+public class CsvImportRowReader implements ImportRowReader {
+    
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    
+    private final Reader reader;
+    private final int maxRecordLength;
+    private Map<String, Integer> header;
+    private long record;
+    private int pushedBack = -1;
+    
+    public CsvImportRowReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+    
+    @Override
+    public ImportRow next() throws IOException {
+        if (header == null) {
+            List<String> columns = readRecord();
+            if (columns == null) {
+                return null;
+            }
+            // Spreadsheet exports often start with a UTF-8 byte order mark, which is not part of the first name
+            String first = columns.get(0);
+            if (!first.isEmpty() && first.charAt(0) == BYTE_ORDER_MARK) {
+                columns.set(0, first.substring(1));
+            }
+            header = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                header.put(columns.get(i).trim(), i);
+            }
+            if (!header.containsKey("name")) {
+                throw new IllegalArgumentException("CSV header must contain a 'name' column");
+            }
+        }
+        
+        List<String> values;
+        try {
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+                record++;
+            } while (values.size() == 1 && values.get(0).isBlank());
+        } catch (IllegalArgumentException e) {
+            return ImportRow.failed(++record, e.getMessage());
+        }
+        
+        try {
+            return ImportRow.parsed(record, new CreateProductRequest(
+                value(values, "name"),
+                value(values, "description"),
+                decimal(value(values, "priceAmount")),
+                value(values, "priceCurrency"),
+                integer(value(values, "stockQuantity")),
+                status(value(values, "status"))
+            ));
+        } catch (IllegalArgumentException e) {
+            return ImportRow.failed(record, e.getMessage());
+        }
+    }
+    
+    private String value(List<String> values, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index);
+        return value.isEmpty() ? null : value;
+    }
+    
+    private BigDecimal decimal(String value) {
+        try {
+            return value != null ? new BigDecimal(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid priceAmount: " + value);
+        }
+    }
+    
+    private Integer integer(String value) {
+        try {
+            return value != null ? Integer.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid stockQuantity: " + value);
+        }
+    }
+    
+    private ProductStatus status(String value) {
+        try {
+            return value != null ? ProductStatus.valueOf(value.trim().toUpperCase(Locale.ROOT)) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + value);
+        }
+    }
+    
+    /**
+     * Reads one CSV record, which may span several physical lines when quoted.
+     * Once the record exceeds the length limit, the rest of it is read and discarded, so the
+     * following record starts in the right place.
+     * 
+     * @return the record's values, or null at the end of the payload
+     * @throws IllegalArgumentException if the record is too long or ends inside a quoted value
+     */
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        // Characters of the current field, also counted while the record is being discarded
+        int fieldLength = 0;
+        
+        while (c != -1) {
+            boolean discarding = ++length > maxRecordLength;
+            if (quoted) {
+                int following = c == '"' ? read() : -1;
+                if (c == '"' && following != '"') {
+                    quoted = false;
+                    pushedBack = following;
+                } else {
+                    fieldLength++;
+                    if (!discarding) {
+                        value.append((char) c);
+                    }
+                }
+            } else if (c == '"' && fieldLength == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                if (!discarding) {
+                    values.add(value.toString());
+                }
+                value.setLength(0);
+                fieldLength = 0;
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                fieldLength++;
+                if (!discarding) {
+                    value.append((char) c);
+                }
+            }
+            c = read();
+        }
+        
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        if (length > maxRecordLength) {
+            throw new IllegalArgumentException("Record exceeds " + maxRecordLength + " characters");
+        }
+        values.add(value.toString());
+        return values;
+    }
+    
+    private int read() throws IOException {
+        if (pushedBack != -1) {
+            int c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        return reader.read();
+    }
+}
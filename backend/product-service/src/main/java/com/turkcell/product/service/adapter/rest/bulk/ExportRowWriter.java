@@ -0,0 +1,33 @@
+package com.turkcell.product.service.adapter.rest.bulk;
+
+import com.turkcell.product.service.adapter.rest.dto.ProductResponse;
+
+import java.io.IOException;
+
+/**
+ * Writes exported products one row at a time.
+ */
+public interface ExportRowWriter {
+    
+    /**
+     * Writes anything that precedes the first row, such as a header.
+     * 
+     * @throws IOException if the output cannot be written
+     */
+    void begin() throws IOException;
+    
+    /**
+     * Writes a single product.
+     * 
+     * @param product the product to write
+     * @throws IOException if the output cannot be written
+     */
+    void write(ProductResponse product) throws IOException;
+    
+    /**
+     * Flushes buffered rows to the underlying output.
+     * 
+     * @throws IOException if the output cannot be written
+     */
+    void flush() throws IOException;
+}
@@ -0,0 +1,36 @@
+package com.turkcell.product.service.adapter.rest.bulk;
+
+import com.turkcell.product.service.adapter.rest.dto.CreateProductRequest;
+
+/**
+ * A single parsed row of a bulk import payload.
+ * 
+ * @param line the 1-based line (NDJSON) or record (CSV) number in the payload
+ * @param request the parsed request, null if the row could not be parsed
+ * @param error the parse error, null if the row was parsed
+ */
+public record ImportRow(long line, CreateProductRequest request, String error) {
+    
+    /**
+     * Creates a successfully parsed row.
+     */
+    public static ImportRow parsed(long line, CreateProductRequest request) {
+        return new ImportRow(line, request, null);
+    }
+    
+    /**
+     * Creates a row that could not be parsed.
+     */
+    public static ImportRow failed(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+    
+    /**
+     * Checks if the row was parsed.
+     * 
+     * @return true if a request is available
+     */
+    public boolean isParsed() {
+        return request != null;
+    }
+}
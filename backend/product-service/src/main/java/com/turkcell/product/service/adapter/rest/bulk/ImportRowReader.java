@@ -0,0 +1,18 @@
+package com.turkcell.product.service.adapter.rest.bulk;
+
+import java.io.IOException;
+
+/**
+ * Reads bulk import rows one at a time from a streamed payload.
+ * Implementations never buffer more than the current row.
+ */
+public interface ImportRowReader {
+    
+    /**
+     * Reads the next row.
+     * 
+     * @return the next row, or null at the end of the payload
+     * @throws IOException if the payload cannot be read
+     */
+    ImportRow next() throws IOException;
+}
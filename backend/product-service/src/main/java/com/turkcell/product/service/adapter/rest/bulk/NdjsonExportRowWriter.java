@@ -0,0 +1,36 @@
+package com.turkcell.product.service.adapter.rest.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product.service.adapter.rest.dto.ProductResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes one JSON object per line, in the same shape as the product API responses.
+ */
+public class NdjsonExportRowWriter implements ExportRowWriter {
+    
+    private final OutputStream out;
+    private final ObjectMapper objectMapper;
+    
+    public NdjsonExportRowWriter(OutputStream out, ObjectMapper objectMapper) {
+        this.out = out;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    public void begin() {
+    }
+    
+    @Override
+    public void write(ProductResponse product) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(product));
+        out.write('\n');
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
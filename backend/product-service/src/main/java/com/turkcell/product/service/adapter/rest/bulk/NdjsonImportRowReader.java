@@ -0,0 +1,78 @@
+package com.turkcell.product.service.adapter.rest.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product.service.adapter.rest.dto.CreateProductRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads newline-delimited JSON, one {@link CreateProductRequest} object per line.
+ * Blank lines are skipped; a line longer than the configured limit is reported as an invalid row
+ * without being buffered.
+ */
+public class NdjsonImportRowReader implements ImportRowReader {
+    
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final int maxLineLength;
+    private final StringBuilder buffer = new StringBuilder();
+    private long line;
+    
+    public NdjsonImportRowReader(BufferedReader reader, ObjectMapper objectMapper, int maxLineLength) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.maxLineLength = maxLineLength;
+    }
+    
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        try {
+            do {
+                text = readLine();
+                if (text == null) {
+                    return null;
+                }
+                line++;
+            } while (text.isBlank());
+        } catch (IllegalArgumentException e) {
+            return ImportRow.failed(++line, e.getMessage());
+        }
+        
+        try {
+            return ImportRow.parsed(line, objectMapper.readValue(text, CreateProductRequest.class));
+        } catch (JsonProcessingException e) {
+            return ImportRow.failed(line, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+    
+    /**
+     * Reads one line like {@link BufferedReader#readLine()}, but reads and discards the rest of
+     * a line once it exceeds the length limit.
+     * 
+     * @return the line without its terminator, or null at the end of the payload
+     * @throws IllegalArgumentException if the line is too long
+     */
+    private String readLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        
+        buffer.setLength(0);
+        int length = 0;
+        while (c != -1 && c != '\n') {
+            if (++length <= maxLineLength && c != '\r') {
+                buffer.append((char) c);
+            }
+            c = reader.read();
+        }
+        
+        if (length > maxLineLength) {
+            throw new IllegalArgumentException("Line exceeds " + maxLineLength + " characters");
+        }
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.turkcell.product.service.adapter.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for looking up several products in one request.
+ */
+@Schema(description = "Request for fetching several products by ID")
+public record BatchGetRequest(
+    
+    @ArraySchema(schema = @Schema(description = "Product ID", example = "123e4567-e89b-12d3-a456-426614174000"),
+                 minItems = 1, maxItems = 100)
+    @NotEmpty(message = "At least one product ID is required")
+    @Size(max = 100, message = "At most 100 product IDs can be fetched at once")
+    List<@NotBlank(message = "Product IDs cannot be null or blank") String> ids
+) {
+}
@@ -0,0 +1,22 @@
+package com.turkcell.product.service.adapter.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a multi-product lookup.
+ */
+@Schema(description = "Products found for a batch lookup, in request order")
+public record BatchGetResponse(
+    
+    @Schema(description = "Found products, in the order they were requested")
+    List<ProductResponse> products,
+    
+    @Schema(description = "Well-formed IDs for which no product exists")
+    List<String> missingIds,
+    
+    @Schema(description = "Requested values that are not valid product IDs")
+    List<String> invalidIds
+) {
+}
@@ -0,0 +1,44 @@
+package com.turkcell.product.service.adapter.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the outcome of a single row in a bulk import.
+ */
+@Schema(description = "Outcome of a single bulk import row")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkImportRowResult(
+    
+    @Schema(description = "1-based line (NDJSON) or record (CSV) number", example = "42")
+    long line,
+    
+    @Schema(description = "Row outcome", example = "CREATED", allowableValues = {"CREATED", "DUPLICATE", "INVALID", "FAILED"})
+    String status,
+    
+    @Schema(description = "ID of the created product", example = "123e4567-e89b-12d3-a456-426614174000")
+    String id,
+    
+    @Schema(description = "Product name of the row", example = "iPhone 15 Pro")
+    String name,
+    
+    @Schema(description = "Reason the row was not created", example = "Product name must be between 2 and 128 characters")
+    String error
+) {
+    
+    public static BulkImportRowResult created(long line, String id, String name) {
+        return new BulkImportRowResult(line, "CREATED", id, name, null);
+    }
+    
+    public static BulkImportRowResult duplicate(long line, String name) {
+        return new BulkImportRowResult(line, "DUPLICATE", null, name, "Product with name '" + name + "' already exists");
+    }
+    
+    public static BulkImportRowResult invalid(long line, String name, String error) {
+        return new BulkImportRowResult(line, "INVALID", null, name, error);
+    }
+    
+    public static BulkImportRowResult failed(long line, String name, String error) {
+        return new BulkImportRowResult(line, "FAILED", null, name, error);
+    }
+}
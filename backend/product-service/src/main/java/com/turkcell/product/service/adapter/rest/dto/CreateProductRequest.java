@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 
 /**
  * DTO for creating a new product.
@@ -50,7 +51,7 @@ public record CreateProductRequest(
         if (priceCurrency == null || priceCurrency.trim().isEmpty()) {
             priceCurrency = "TRY";
         } else {
-            priceCurrency = priceCurrency.trim().toUpperCase();
+            priceCurrency = priceCurrency.trim().toUpperCase(Locale.ROOT);
         }
         
         if (status == null) {
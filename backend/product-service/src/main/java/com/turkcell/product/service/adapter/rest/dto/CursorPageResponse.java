@@ -0,0 +1,27 @@
+package com.turkcell.product.service.adapter.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for a page of a cursor-based listing.
+ * 
+ * @param <T> the item type
+ */
+@Schema(description = "Page of a cursor-based listing")
+public record CursorPageResponse<T>(
+    
+    @Schema(description = "Items of this page")
+    List<T> content,
+    
+    @Schema(description = "Number of items in this page", example = "20")
+    int size,
+    
+    @Schema(description = "Whether another page follows", example = "true")
+    boolean hasNext,
+    
+    @Schema(description = "Opaque cursor for the next page, absent on the last page", example = "Y3JlYXRlZEF0fERFU0N8...")
+    String nextCursor
+) {
+}
@@ -0,0 +1,82 @@
+package com.turkcell.product.service.adapter.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * DTO for a page of an offset-based listing.
+ * Field names follow Spring Data's page layout so existing clients keep working;
+ * the totals are only present when the requested total mode computes them.
+ * 
+ * @param <T> the item type
+ */
+@Schema(description = "Page of an offset-based listing")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PagedResponse<T>(
+    
+    @Schema(description = "Items of this page")
+    List<T> content,
+    
+    @Schema(description = "Page number (0-based)", example = "0")
+    int number,
+    
+    @Schema(description = "Requested page size", example = "20")
+    int size,
+    
+    @Schema(description = "Number of items in this page", example = "20")
+    int numberOfElements,
+    
+    @Schema(description = "Whether this is the first page", example = "true")
+    boolean first,
+    
+    @Schema(description = "Whether this is the last page", example = "false")
+    boolean last,
+    
+    @Schema(description = "Whether another page follows", example = "true")
+    boolean hasNext,
+    
+    @Schema(description = "Total number of items, absent when totalMode is none", example = "1500")
+    Long totalElements,
+    
+    @Schema(description = "Total number of pages, absent when totalMode is none", example = "75")
+    Integer totalPages,
+    
+    @Schema(description = "How the totals were determined", example = "exact", allowableValues = {"none", "approximate", "exact"})
+    String totalMode
+) {
+    
+    /**
+     * Creates a response from a Spring Data slice.
+     * Totals are taken over when the slice is a {@link Page}.
+     * 
+     * @param slice the slice to convert
+     * @param totalMode the total mode that produced the slice
+     * @param <T> the item type
+     * @return the paged response
+     */
+    public static <T> PagedResponse<T> of(Slice<T> slice, String totalMode) {
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (slice instanceof Page<T> page) {
+            totalElements = page.getTotalElements();
+            totalPages = page.getTotalPages();
+        }
+        
+        return new PagedResponse<>(
+            slice.getContent(),
+            slice.getNumber(),
+            slice.getSize(),
+            slice.getNumberOfElements(),
+            slice.isFirst(),
+            slice.isLast(),
+            slice.hasNext(),
+            totalElements,
+            totalPages,
+            totalMode
+        );
+    }
+}
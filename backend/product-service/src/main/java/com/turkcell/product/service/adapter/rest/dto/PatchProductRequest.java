@@ -0,0 +1,51 @@
+package com.turkcell.product.service.adapter.rest.dto;
+
+import com.turkcell.product.service.domain.model.ProductStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * DTO for conditionally patching an existing product.
+ * All fields are optional; the expected version travels in the If-Match header instead of the body.
+ */
+@Schema(description = "Partial change to an existing product")
+public record PatchProductRequest(
+    
+    @Schema(description = "Product name", example = "iPhone 15 Pro Max", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Size(min = 2, max = 128, message = "Product name must be between 2 and 128 characters")
+    String name,
+    
+    @Schema(description = "Product description", example = "Updated iPhone with enhanced features", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Size(max = 1000, message = "Product description cannot exceed 1000 characters")
+    String description,
+    
+    @Schema(description = "Product price amount", example = "32999.99", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @DecimalMin(value = "0.0", inclusive = true, message = "Price amount must be non-negative")
+    @Digits(integer = 10, fraction = 2, message = "Price amount must have at most 10 integer digits and 2 fractional digits")
+    BigDecimal priceAmount,
+    
+    @Schema(description = "Price currency code", example = "USD", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Pattern(regexp = "^[A-Za-z]{3}$", message = "Currency code must be 3 letters")
+    String priceCurrency,
+    
+    @Schema(description = "Stock quantity", example = "150", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @Min(value = 0, message = "Stock quantity must be non-negative")
+    Integer stockQuantity,
+    
+    @Schema(description = "Product status", example = "INACTIVE", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    ProductStatus status
+) {
+    
+    /**
+     * Constructor with input normalization.
+     * Normalizes currency code to uppercase if provided.
+     */
+    public PatchProductRequest {
+        if (priceCurrency != null && !priceCurrency.trim().isEmpty()) {
+            priceCurrency = priceCurrency.trim().toUpperCase(Locale.ROOT);
+        }
+    }
+}
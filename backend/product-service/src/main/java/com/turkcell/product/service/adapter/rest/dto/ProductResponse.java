@@ -1,10 +1,12 @@
 package com.turkcell.product.service.adapter.rest.dto;
 
+import com.turkcell.product.service.domain.model.Money;
 import com.turkcell.product.service.domain.model.ProductStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.UUID;
 
 /**
  * DTO for product response.
@@ -14,7 +16,7 @@ import java.time.Instant;
 public record ProductResponse(
     
     @Schema(description = "Product unique identifier", example = "123e4567-e89b-12d3-a456-426614174000")
-    String id,
+    UUID id,
     
     @Schema(description = "Product name", example = "iPhone 15 Pro")
     String name,
@@ -55,28 +57,47 @@ public record ProductResponse(
      * Automatically calculates priceDisplay and available status.
      */
     public ProductResponse {
-        // Calculate price display
-        if (priceAmount != null && priceCurrency != null) {
-            priceDisplay = String.format("%.2f %s", priceAmount, priceCurrency);
-        } else {
-            priceDisplay = "N/A";
-        }
-        
-        // Calculate availability
-        available = status == ProductStatus.ACTIVE && stockQuantity != null && stockQuantity > 0;
+        priceDisplay = formatPrice(priceAmount, priceCurrency);
+        available = isAvailable(status, stockQuantity);
     }
     
     /**
      * Convenience constructor without derived fields.
      * Automatically calculates priceDisplay and available.
      */
-    public ProductResponse(String id, String name, String description, BigDecimal priceAmount, 
+    public ProductResponse(UUID id, String name, String description, BigDecimal priceAmount, 
                           String priceCurrency, Integer stockQuantity, ProductStatus status, 
                           Instant createdAt, Instant updatedAt, Long version) {
         this(id, name, description, priceAmount, priceCurrency, null, stockQuantity, 
              status, null, createdAt, updatedAt, version);
     }
     
+    /**
+     * Formats a price as shown in {@code priceDisplay}: the amount with 2 decimals, independent
+     * of the default locale, followed by the code.
+     * 
+     * @param priceAmount the price amount
+     * @param priceCurrency the currency code
+     * @return e.g. {@code 29999.99 TRY}, or {@code N/A} if either part is missing
+     */
+    public static String formatPrice(BigDecimal priceAmount, String priceCurrency) {
+        if (priceAmount == null || priceCurrency == null) {
+            return "N/A";
+        }
+        return Money.of(priceAmount, priceCurrency).toString();
+    }
+    
+    /**
+     * Decides the {@code available} flag: the product is active and has stock.
+     * 
+     * @param status the product status
+     * @param stockQuantity the stock quantity
+     * @return true if the product can be purchased
+     */
+    public static boolean isAvailable(ProductStatus status, Integer stockQuantity) {
+        return status == ProductStatus.ACTIVE && stockQuantity != null && stockQuantity > 0;
+    }
+    
     /**
      * Checks if the product is out of stock.
      * 
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 
 /**
  * DTO for updating an existing product.
@@ -51,7 +52,7 @@ public record UpdateProductRequest(
      */
     public UpdateProductRequest {
         if (priceCurrency != null && !priceCurrency.trim().isEmpty()) {
-            priceCurrency = priceCurrency.trim().toUpperCase();
+            priceCurrency = priceCurrency.trim().toUpperCase(Locale.ROOT);
         }
     }
     
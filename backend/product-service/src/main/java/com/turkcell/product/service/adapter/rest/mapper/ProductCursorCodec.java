@@ -0,0 +1,81 @@
+package com.turkcell.product.service.adapter.rest.mapper;
+
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ProductSortField;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Encodes keyset cursors into opaque, URL-safe tokens and back.
+ * Clients must treat the token as opaque; its layout may change between releases.
+ */
+@Component
+public class ProductCursorCodec {
+    
+    private static final String SEPARATOR = "|";
+    
+    /**
+     * Encodes a cursor into an opaque token.
+     * 
+     * @param cursor the cursor to encode, may be null
+     * @return the token, or null if the cursor is null
+     */
+    public String encode(ProductCursor cursor) {
+        if (cursor == null || cursor.isFirst()) {
+            return null;
+        }
+        
+        String raw = String.join(SEPARATOR,
+            cursor.sortField().property(),
+            cursor.direction().name(),
+            cursor.lastId().toString(),
+            formatValue(cursor.sortValue()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodes an opaque token into a cursor.
+     * 
+     * @param token the token produced by {@link #encode(ProductCursor)}
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The sort value goes last so that it may contain the separator itself
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Unexpected cursor layout");
+            }
+            
+            ProductSortField sortField = ProductSortField.fromProperty(parts[0])
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort field"));
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            ProductId lastId = ProductId.fromString(parts[2]);
+            
+            return new ProductCursor(sortField, direction, parseValue(sortField, parts[3]), lastId);
+            
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+    
+    private String formatValue(Object value) {
+        return value instanceof BigDecimal amount ? amount.toPlainString() : value.toString();
+    }
+    
+    private Object parseValue(ProductSortField sortField, String value) {
+        return switch (sortField) {
+            case CREATED_AT, UPDATED_AT -> Instant.parse(value);
+            case NAME -> value;
+            case PRICE -> new BigDecimal(value);
+        };
+    }
+}
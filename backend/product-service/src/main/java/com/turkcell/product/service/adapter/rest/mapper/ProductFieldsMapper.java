@@ -0,0 +1,121 @@
+package com.turkcell.product.service.adapter.rest.mapper;
+
+import com.turkcell.product.service.adapter.rest.dto.ProductResponse;
+import com.turkcell.product.service.domain.model.ProductView;
+import com.turkcell.product.service.domain.port.repository.ProductField;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maps sparse fieldset requests ({@code fields=name,priceAmount}) onto stored
+ * product fields and builds the matching partial responses.
+ * Property names mirror {@link ProductResponse}, which also computes the derived
+ * {@code priceDisplay} and {@code available} values for both.
+ */
+@Component
+public class ProductFieldsMapper {
+    
+    private static final String PRICE_DISPLAY = "priceDisplay";
+    private static final String AVAILABLE = "available";
+    
+    /**
+     * Response properties in the order they are rendered.
+     */
+    private static final List<String> RESPONSE_FIELDS = List.of(
+        "id", "name", "description", "priceAmount", "priceCurrency", PRICE_DISPLAY,
+        "stockQuantity", "status", AVAILABLE, "createdAt", "updatedAt", "version"
+    );
+    
+    /**
+     * Parses a comma-separated fieldset.
+     * 
+     * @param fields the fieldset, e.g. {@code name,priceAmount}
+     * @return the requested response properties in rendering order
+     * @throws IllegalArgumentException if a property is unknown or none is given
+     */
+    public Set<String> parse(String fields) {
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+        
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        for (String field : requested) {
+            if (!RESPONSE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException(
+                    "Unknown field: " + field + ", supported fields are " + String.join(", ", RESPONSE_FIELDS));
+            }
+        }
+        
+        return RESPONSE_FIELDS.stream()
+                .filter(requested::contains)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+    
+    /**
+     * Resolves the stored fields needed to render the requested properties.
+     * 
+     * @param responseFields the requested response properties
+     * @return the stored fields to read
+     */
+    public Set<ProductField> storedFieldsFor(Set<String> responseFields) {
+        Set<ProductField> storedFields = EnumSet.noneOf(ProductField.class);
+        for (String field : responseFields) {
+            switch (field) {
+                case PRICE_DISPLAY -> {
+                    storedFields.add(ProductField.PRICE_AMOUNT);
+                    storedFields.add(ProductField.PRICE_CURRENCY);
+                }
+                case AVAILABLE -> {
+                    storedFields.add(ProductField.STATUS);
+                    storedFields.add(ProductField.STOCK_QUANTITY);
+                }
+                default -> storedFields.add(ProductField.fromProperty(field).orElseThrow());
+            }
+        }
+        return storedFields;
+    }
+    
+    /**
+     * Builds a partial response containing exactly the requested properties.
+     * 
+     * @param view the projected product
+     * @param responseFields the requested response properties
+     * @return the partial response, keyed by property name
+     */
+    public Map<String, Object> toSparseResponse(ProductView view, Set<String> responseFields) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (String field : responseFields) {
+            response.put(field, valueOf(view, field));
+        }
+        return response;
+    }
+    
+    private Object valueOf(ProductView view, String field) {
+        return switch (field) {
+            case "id" -> view.id() != null ? view.id().value() : null;
+            case "name" -> view.name();
+            case "description" -> view.description();
+            case "priceAmount" -> view.priceAmount();
+            case "priceCurrency" -> view.priceCurrency();
+            case PRICE_DISPLAY -> ProductResponse.formatPrice(view.priceAmount(), view.priceCurrency());
+            case "stockQuantity" -> view.stockQuantity();
+            case "status" -> view.status();
+            case AVAILABLE -> ProductResponse.isAvailable(view.status(), view.stockQuantity());
+            case "createdAt" -> view.createdAt();
+            case "updatedAt" -> view.updatedAt();
+            case "version" -> view.version();
+            default -> throw new IllegalArgumentException("Unknown field: " + field);
+        };
+    }
+}
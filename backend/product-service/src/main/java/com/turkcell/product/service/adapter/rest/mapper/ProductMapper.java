@@ -3,13 +3,17 @@ package com.turkcell.product.service.adapter.rest.mapper;
 import com.turkcell.product.service.domain.model.Money;
 import com.turkcell.product.service.domain.model.Product;
 import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductPatch;
+import com.turkcell.product.service.domain.model.ProductView;
 import com.turkcell.product.service.adapter.rest.dto.CreateProductRequest;
+import com.turkcell.product.service.adapter.rest.dto.PatchProductRequest;
 import com.turkcell.product.service.adapter.rest.dto.ProductResponse;
 import com.turkcell.product.service.adapter.rest.dto.UpdateProductRequest;
 import org.mapstruct.*;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.UUID;
 
 /**
  * MapStruct mapper for converting between DTOs and Product domain model.
@@ -57,19 +61,40 @@ public interface ProductMapper {
     @Mapping(target = "version", source = "request.version")
     Product toProductForUpdate(UpdateProductRequest request, Product existingProduct);
     
+    /**
+     * Maps PatchProductRequest to a ProductPatch; unset fields stay null.
+     * 
+     * @param request the patch request DTO
+     * @return the partial change
+     */
+    ProductPatch toPatch(PatchProductRequest request);
+    
     /**
      * Maps Product domain model to ProductResponse DTO.
      * 
      * @param product the domain model
      * @return the response DTO
      */
-    @Mapping(target = "id", source = "id", qualifiedByName = "productIdToString")
-    @Mapping(target = "priceAmount", source = "price.amount")
-    @Mapping(target = "priceCurrency", source = "price.currency")
+    @Mapping(target = "id", source = "id", qualifiedByName = "productIdToUuid")
+    @Mapping(target = "priceAmount", source = "price", qualifiedByName = "moneyToAmount")
+    @Mapping(target = "priceCurrency", source = "price", qualifiedByName = "moneyToCurrency")
     @Mapping(target = "priceDisplay", ignore = true)
     @Mapping(target = "available", ignore = true)
     ProductResponse toResponse(Product product);
     
+    /**
+     * Maps a full ProductView read model to ProductResponse DTO.
+     * Used by read-only listings that go straight from database rows to responses,
+     * without building and validating a Product aggregate per row.
+     * 
+     * @param view the read model, with all fields selected
+     * @return the response DTO
+     */
+    @Mapping(target = "id", source = "id", qualifiedByName = "productIdToUuid")
+    @Mapping(target = "priceDisplay", ignore = true)
+    @Mapping(target = "available", ignore = true)
+    ProductResponse toResponse(ProductView view);
+    
     // Named mapping methods for complex conversions
     
     @Named("createRequestToMoney")
@@ -116,8 +141,18 @@ public interface ProductMapper {
         return existingProduct.getPrice();
     }
     
-    @Named("productIdToString")
-    default String productIdToString(ProductId productId) {
-        return productId != null ? productId.toString() : null;
+    @Named("moneyToAmount")
+    default BigDecimal moneyToAmount(Money money) {
+        return money != null ? money.amount() : null;
+    }
+    
+    @Named("moneyToCurrency")
+    default String moneyToCurrency(Money money) {
+        return money != null ? money.currency() : null;
+    }
+    
+    @Named("productIdToUuid")
+    default UUID productIdToUuid(ProductId productId) {
+        return productId != null ? productId.value() : null;
     }
 }
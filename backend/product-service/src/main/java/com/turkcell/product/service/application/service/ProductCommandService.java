@@ -1,49 +1,75 @@
 package com.turkcell.product.service.application.service;
 
 import com.turkcell.product.service.domain.exception.ConflictException;
+import com.turkcell.product.service.domain.exception.PreconditionFailedException;
 import com.turkcell.product.service.domain.exception.ResourceNotFoundException;
 import com.turkcell.product.service.domain.model.Product;
 import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductPatch;
+import com.turkcell.product.service.domain.port.cache.ProductCachePort;
+import com.turkcell.product.service.domain.port.cache.ProductNameIndexPort;
 import com.turkcell.product.service.domain.port.repository.ProductRepositoryPort;
 import com.turkcell.product.service.domain.port.usecase.CreateProductUseCase;
 import com.turkcell.product.service.domain.port.usecase.DeleteProductUseCase;
+import com.turkcell.product.service.domain.port.usecase.ImportProductsUseCase;
+import com.turkcell.product.service.domain.port.usecase.PatchProductUseCase;
+import com.turkcell.product.service.domain.port.usecase.ProductImportResult;
 import com.turkcell.product.service.domain.port.usecase.UpdateProductUseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Application service implementing command use cases for Product aggregate.
  * This service handles all write operations (create, update, delete) with proper transaction boundaries.
  */
 @Service
 @Transactional
-public class ProductCommandService implements CreateProductUseCase, UpdateProductUseCase, DeleteProductUseCase {
+public class ProductCommandService implements CreateProductUseCase, UpdateProductUseCase, PatchProductUseCase,
+                                              DeleteProductUseCase, ImportProductsUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(ProductCommandService.class);
     
     private final ProductRepositoryPort productRepository;
+    private final ProductCachePort productCache;
+    private final ProductNameIndexPort nameIndex;
     
-    public ProductCommandService(ProductRepositoryPort productRepository) {
+    public ProductCommandService(ProductRepositoryPort productRepository, 
+                                ProductCachePort productCache,
+                                ProductNameIndexPort nameIndex) {
         this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.nameIndex = nameIndex;
     }
     
     @Override
     public Product createProduct(Product product) {
-        logger.info("Creating new product with name: {}", product.getName());
+        logger.debug("Creating new product with name: {}", product.getName());
         
-        // Check for name uniqueness
-        if (productRepository.existsByName(product.getName())) {
+        // Check for name uniqueness; the name index settles most checks without a query
+        if (nameIndex.mightContain(product.getName()) && productRepository.existsByName(product.getName())) {
             logger.warn("Attempt to create product with duplicate name: {}", product.getName());
             throw ConflictException.duplicate("Product", "name", product.getName());
         }
         
         try {
             Product savedProduct = productRepository.save(product);
-            logger.info("Successfully created product with ID: {}", savedProduct.getId());
+            nameIndex.add(savedProduct.getName());
+            productCache.putAfterCommit(savedProduct);
+            logger.debug("Successfully created product with ID: {}", savedProduct.getId());
             return savedProduct;
             
+        } catch (DuplicateKeyException e) {
+            logger.warn("Product name taken concurrently: {}", product.getName());
+            throw ConflictException.duplicate("Product", "name", product.getName());
         } catch (Exception e) {
             logger.error("Failed to create product with name: {}", product.getName(), e);
             throw new RuntimeException("Failed to create product", e);
@@ -52,10 +78,10 @@ public class ProductCommandService implements CreateProductUseCase, UpdateProduc
     
     @Override
     public Product updateProduct(ProductId id, Product updatedProduct) {
-        logger.info("Updating product with ID: {}", id);
+        logger.debug("Updating product with ID: {}", id);
         
-        // Find existing product
-        Product existingProduct = productRepository.findById(id)
+        // Find existing product; read past the caches so the version check sees the committed state
+        Product existingProduct = productRepository.findCurrentById(id)
                 .orElseThrow(() -> {
                     logger.warn("Attempt to update non-existent product with ID: {}", id);
                     return new ResourceNotFoundException("Product", id);
@@ -63,6 +89,7 @@ public class ProductCommandService implements CreateProductUseCase, UpdateProduc
         
         // Check for name uniqueness if name is being changed
         if (!existingProduct.getName().equals(updatedProduct.getName()) &&
+            nameIndex.mightContain(updatedProduct.getName()) &&
             productRepository.existsByNameAndIdNot(updatedProduct.getName(), id)) {
             logger.warn("Attempt to update product {} with duplicate name: {}", id, updatedProduct.getName());
             throw ConflictException.duplicate("Product", "name", updatedProduct.getName());
@@ -86,18 +113,72 @@ public class ProductCommandService implements CreateProductUseCase, UpdateProduc
             );
             
             Product savedProduct = productRepository.save(existingProduct);
-            logger.info("Successfully updated product with ID: {}", id);
+            nameIndex.add(savedProduct.getName());
+            productCache.putAfterCommit(savedProduct);
+            logger.debug("Successfully updated product with ID: {}", id);
             return savedProduct;
             
+        } catch (OptimisticLockingFailureException e) {
+            logger.warn("Concurrent modification detected while updating product {}", id);
+            throw e;
+        } catch (DuplicateKeyException e) {
+            logger.warn("Product name taken concurrently: {}", updatedProduct.getName());
+            throw ConflictException.duplicate("Product", "name", updatedProduct.getName());
         } catch (Exception e) {
             logger.error("Failed to update product with ID: {}", id, e);
             throw new RuntimeException("Failed to update product", e);
         }
     }
     
+    @Override
+    public Product patchProduct(ProductId id, long expectedVersion, ProductPatch patch) {
+        logger.debug("Patching product with ID: {} at expected version {}", id, expectedVersion);
+        
+        // The only read of the pipeline, past the caches; the write below is guarded by the same version
+        Product product = productRepository.findCurrentById(id)
+                .orElseThrow(() -> {
+                    logger.warn("Attempt to patch non-existent product with ID: {}", id);
+                    return new ResourceNotFoundException("Product", id);
+                });
+        
+        if (product.getVersion() != expectedVersion) {
+            logger.warn("Precondition failed for product {}: expected version {}, current {}", 
+                       id, expectedVersion, product.getVersion());
+            throw PreconditionFailedException.versionMismatch("Product", id, expectedVersion);
+        }
+        
+        String currentName = product.getName();
+        patch.applyTo(product);
+        
+        if (!currentName.equals(product.getName()) &&
+            nameIndex.mightContain(product.getName()) &&
+            productRepository.existsByNameAndIdNot(product.getName(), id)) {
+            logger.warn("Attempt to patch product {} with duplicate name: {}", id, product.getName());
+            throw ConflictException.duplicate("Product", "name", product.getName());
+        }
+        
+        try {
+            Product savedProduct = productRepository.save(product);
+            nameIndex.add(savedProduct.getName());
+            productCache.putAfterCommit(savedProduct);
+            logger.debug("Successfully patched product with ID: {} to version {}", id, savedProduct.getVersion());
+            return savedProduct;
+            
+        } catch (OptimisticLockingFailureException e) {
+            logger.warn("Product {} changed between read and write of patch", id);
+            throw PreconditionFailedException.versionMismatch("Product", id, expectedVersion);
+        } catch (DuplicateKeyException e) {
+            logger.warn("Product name taken concurrently: {}", product.getName());
+            throw ConflictException.duplicate("Product", "name", product.getName());
+        } catch (Exception e) {
+            logger.error("Failed to patch product with ID: {}", id, e);
+            throw new RuntimeException("Failed to patch product", e);
+        }
+    }
+    
     @Override
     public void deleteProduct(ProductId id) {
-        logger.info("Deleting product with ID: {}", id);
+        logger.debug("Deleting product with ID: {}", id);
         
         // Check if product exists
         if (!productRepository.existsById(id)) {
@@ -107,11 +188,50 @@ public class ProductCommandService implements CreateProductUseCase, UpdateProduc
         
         try {
             productRepository.deleteById(id);
-            logger.info("Successfully deleted product with ID: {}", id);
+            productCache.evictAfterCommit(id);
+            logger.debug("Successfully deleted product with ID: {}", id);
             
         } catch (Exception e) {
             logger.error("Failed to delete product with ID: {}", id, e);
             throw new RuntimeException("Failed to delete product", e);
         }
     }
+    
+    @Override
+    public List<ProductImportResult> importProducts(List<Product> products) {
+        logger.debug("Importing batch of {} products", products.size());
+        
+        // One query settles name uniqueness for the whole batch, limited to names the index cannot rule out
+        List<String> possiblyTaken = products.stream()
+            .map(Product::getName)
+            .filter(nameIndex::mightContain)
+            .toList();
+        Set<String> takenNames = new HashSet<>(possiblyTaken.isEmpty() ? Set.of() : productRepository.findExistingNames(possiblyTaken));
+        
+        List<Product> candidates = new ArrayList<>();
+        for (Product product : products) {
+            // Set.add also rejects names repeated within the batch itself
+            if (takenNames.add(product.getName())) {
+                candidates.add(product);
+            }
+        }
+        
+        Set<ProductId> inserted = candidates.isEmpty() ? Set.of() : productRepository.insertAll(candidates);
+        for (Product candidate : candidates) {
+            if (inserted.contains(candidate.getId())) {
+                nameIndex.add(candidate.getName());
+            }
+        }
+        
+        List<ProductImportResult> results = new ArrayList<>(products.size());
+        for (Product product : products) {
+            ProductImportResult.Status status = inserted.contains(product.getId())
+                ? ProductImportResult.Status.CREATED
+                : ProductImportResult.Status.DUPLICATE;
+            results.add(new ProductImportResult(product, status));
+        }
+        
+        logger.debug("Imported {} of {} products", inserted.size(), products.size());
+        return results;
+    }
 }
@@ -3,45 +3,163 @@ package com.turkcell.product.service.application.service;
 import com.turkcell.product.service.domain.exception.ResourceNotFoundException;
 import com.turkcell.product.service.domain.model.Product;
 import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductView;
+import com.turkcell.product.service.domain.port.cache.ProductCachePort;
+import com.turkcell.product.service.domain.port.repository.KeysetPage;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ProductField;
+import com.turkcell.product.service.domain.port.repository.ProductFilter;
+import com.turkcell.product.service.domain.port.repository.ProductListState;
 import com.turkcell.product.service.domain.port.repository.ProductRepositoryPort;
+import com.turkcell.product.service.domain.port.repository.ProductSortField;
+import com.turkcell.product.service.domain.port.usecase.ExportProductsQuery;
 import com.turkcell.product.service.domain.port.usecase.GetProductByIdQuery;
 import com.turkcell.product.service.domain.port.usecase.ListProductsQuery;
+import com.turkcell.product.service.domain.port.usecase.TotalCountMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
 /**
  * Application service implementing query use cases for Product aggregate.
  * This service handles all read operations with read-only transaction boundaries.
  */
 @Service
 @Transactional(readOnly = true)
-public class ProductQueryService implements GetProductByIdQuery, ListProductsQuery {
+public class ProductQueryService implements GetProductByIdQuery, ListProductsQuery, ExportProductsQuery {
     
     private static final Logger logger = LoggerFactory.getLogger(ProductQueryService.class);
     
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    
     private final ProductRepositoryPort productRepository;
+    private final ProductCachePort productCache;
+    private final long listStateMaxAgeNanos;
     
-    public ProductQueryService(ProductRepositoryPort productRepository) {
+    private volatile TimedListState recentListState;
+    
+    public ProductQueryService(ProductRepositoryPort productRepository, ProductCachePort productCache,
+                               @Value("${product.list-state.max-age:PT1S}") Duration listStateMaxAge) {
         this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.listStateMaxAgeNanos = listStateMaxAge.toNanos();
     }
     
     @Override
     public Product getProductById(ProductId id) {
         logger.debug("Retrieving product with ID: {}", id);
         
-        return productRepository.findById(id)
+        // Reload from the database itself: the second-level cache may still hold the version this pod saw last
+        return productCache.get(id, productRepository::findVersionById, productRepository::findCurrentById)
+                .orElseThrow(() -> {
+                    logger.debug("Product not found with ID: {}", id);
+                    return new ResourceNotFoundException("Product", id);
+                });
+    }
+    
+    @Override
+    public ProductView getProductById(ProductId id, Set<ProductField> fields) {
+        logger.debug("Retrieving product with ID: {} and fields: {}", id, fields);
+        
+        // A current cached aggregate already holds every field; only go to the database for a narrower read
+        Optional<Product> cached = productCache.getIfCurrent(id, productRepository::findVersionById);
+        if (cached.isPresent()) {
+            return ProductView.of(cached.get());
+        }
+        if (productCache.isKnownMissing(id)) {
+            throw new ResourceNotFoundException("Product", id);
+        }
+        
+        return productRepository.findById(id, fields)
                 .orElseThrow(() -> {
-                    logger.warn("Product not found with ID: {}", id);
+                    logger.debug("Product not found with ID: {}", id);
                     return new ResourceNotFoundException("Product", id);
                 });
     }
     
+    @Override
+    public Map<ProductId, Product> getProductsByIds(List<ProductId> ids) {
+        logger.debug("Retrieving {} products by ID", ids.size());
+        
+        // One query for the current versions, which also settles which products exist
+        Map<ProductId, Long> versions = productRepository.findVersionsByIds(ids);
+        Function<ProductId, Optional<Long>> currentVersion = id -> Optional.ofNullable(versions.get(id));
+        
+        // One more query for everything the cache cannot answer
+        List<ProductId> uncached = ids.stream()
+            .filter(versions::containsKey)
+            .distinct()
+            .filter(id -> productCache.getIfCurrent(id, currentVersion).isEmpty())
+            .toList();
+        Map<ProductId, Product> loaded = uncached.isEmpty() ? Map.of() : productRepository.findAllByIds(uncached).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        
+        Map<ProductId, Product> products = new LinkedHashMap<>();
+        for (ProductId id : ids) {
+            if (!versions.containsKey(id)) {
+                continue;
+            }
+            // Goes through the cache so loaded products are cached like single lookups
+            productCache.get(id, currentVersion, key -> Optional.ofNullable(loaded.get(key)))
+                .ifPresent(product -> products.put(id, product));
+        }
+        
+        logger.debug("Retrieved {} of {} products, {} from the database", products.size(), ids.size(), uncached.size());
+        return products;
+    }
+    
+    @Override
+    public Optional<Long> getProductVersion(ProductId id) {
+        logger.debug("Retrieving version of product with ID: {}", id);
+        
+        // Always read: a cached product may have been changed through another instance
+        if (productCache.isKnownMissing(id)) {
+            return Optional.empty();
+        }
+        return productRepository.findVersionById(id);
+    }
+    
+    @Override
+    public ProductListState getListState() {
+        logger.debug("Retrieving list state of products");
+        
+        // Taken before the read, so the age of the state is never underestimated
+        long readAt = System.nanoTime();
+        ProductListState state = productRepository.findListState();
+        recentListState = new TimedListState(state, readAt);
+        return state;
+    }
+    
+    @Override
+    public ProductListState getRecentListState() {
+        TimedListState recent = recentListState;
+        if (recent != null && System.nanoTime() - recent.readAt() < listStateMaxAgeNanos) {
+            return recent.state();
+        }
+        return getListState();
+    }
+    
     @Override
     public Page<Product> listProducts(Pageable pageable) {
+        ProductSortField.requireSupported(pageable.getSort());
+        
         logger.debug("Retrieving products with pagination: page={}, size={}, sort={}", 
                     pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
         
@@ -56,4 +174,152 @@ public class ProductQueryService implements GetProductByIdQuery, ListProductsQue
             throw new RuntimeException("Failed to retrieve products", e);
         }
     }
+    
+    @Override
+    public Slice<Product> listProducts(Pageable pageable, ProductFilter filter, TotalCountMode totalMode) {
+        ProductSortField.requireSupported(pageable.getSort());
+        
+        if (totalMode == TotalCountMode.EXACT && filter.isEmpty()) {
+            return listProducts(pageable);
+        }
+        
+        logger.debug("Retrieving products: page={}, size={}, sort={}, filter={}, totalMode={}", 
+                    pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), filter, totalMode);
+        
+        try {
+            Slice<Product> products = withTotal(productRepository.findAllSlice(filter, pageable), pageable, totalMode, 
+                exactCount(null, filter), estimatedCount(null, filter));
+            logger.debug("Retrieved {} products, hasNext={}", products.getNumberOfElements(), products.hasNext());
+            return products;
+            
+        } catch (Exception e) {
+            logger.error("Failed to retrieve products with pagination", e);
+            throw new RuntimeException("Failed to retrieve products", e);
+        }
+    }
+    
+    @Override
+    public Slice<ProductView> listProducts(Pageable pageable, ProductFilter filter, TotalCountMode totalMode, 
+                                           Set<ProductField> fields) {
+        ProductSortField.requireSupported(pageable.getSort());
+        
+        logger.debug("Retrieving projected products: page={}, size={}, sort={}, filter={}, totalMode={}, fields={}", 
+                    pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), filter, totalMode, fields);
+        
+        try {
+            Slice<ProductView> products = withTotal(productRepository.findAllSlice(fields, filter, pageable), pageable, 
+                totalMode, exactCount(null, filter), estimatedCount(null, filter));
+            logger.debug("Retrieved {} projected products, hasNext={}", products.getNumberOfElements(), products.hasNext());
+            return products;
+            
+        } catch (Exception e) {
+            logger.error("Failed to retrieve projected products with pagination", e);
+            throw new RuntimeException("Failed to retrieve products", e);
+        }
+    }
+    
+    @Override
+    public Slice<Product> searchProducts(String query, ProductFilter filter, Pageable pageable, TotalCountMode totalMode) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query cannot exceed " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        String text = query.strip();
+        
+        logger.debug("Searching products: query={}, filter={}, page={}, size={}, totalMode={}", 
+                    text, filter, pageable.getPageNumber(), pageable.getPageSize(), totalMode);
+        
+        try {
+            Slice<Product> products = withTotal(productRepository.search(text, filter, pageable), pageable, totalMode,
+                exactCount(text, filter), estimatedCount(text, filter));
+            logger.debug("Found {} matching products, hasNext={}", products.getNumberOfElements(), products.hasNext());
+            return products;
+            
+        } catch (Exception e) {
+            logger.error("Failed to search products", e);
+            throw new RuntimeException("Failed to search products", e);
+        }
+    }
+    
+    @Override
+    public KeysetPage<Product> listProducts(ProductCursor cursor, ProductFilter filter, int size) {
+        logger.debug("Retrieving products after cursor: sort={} {}, lastId={}, filter={}, size={}", 
+                    cursor.sortField(), cursor.direction(), cursor.lastId(), filter, size);
+        
+        try {
+            KeysetPage<Product> products = productRepository.findAll(cursor, filter, size);
+            logger.debug("Retrieved {} products, hasNext={}", products.content().size(), products.hasNext());
+            return products;
+            
+        } catch (Exception e) {
+            logger.error("Failed to retrieve products after cursor", e);
+            throw new RuntimeException("Failed to retrieve products", e);
+        }
+    }
+    
+    /**
+     * Counts a listing; the unfiltered count goes through the cached JPA count query.
+     */
+    private LongSupplier exactCount(String query, ProductFilter filter) {
+        return query == null && filter.isEmpty() 
+            ? productRepository::count 
+            : () -> productRepository.countMatching(query, filter);
+    }
+    
+    /**
+     * Estimates a listing; the unfiltered estimate comes from table statistics.
+     */
+    private LongSupplier estimatedCount(String query, ProductFilter filter) {
+        return query == null && filter.isEmpty() 
+            ? productRepository::estimateCount 
+            : () -> productRepository.estimateMatching(query, filter);
+    }
+    
+    /**
+     * Attaches a total to a slice according to the requested mode.
+     * 
+     * @param slice the slice read without a count
+     * @param pageable the pagination information of the slice
+     * @param totalMode how the total is determined
+     * @param exactCount counts all rows of the listing
+     * @param estimatedCount estimates the rows of the listing
+     * @return the slice itself for {@link TotalCountMode#NONE}, a page with a total otherwise
+     */
+    private <T> Slice<T> withTotal(Slice<T> slice, Pageable pageable, TotalCountMode totalMode,
+                                   LongSupplier exactCount, LongSupplier estimatedCount) {
+        if (totalMode == TotalCountMode.NONE) {
+            return slice;
+        }
+        
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0)) {
+            // The last slice already knows the exact total, no count needed
+            return new PageImpl<>(slice.getContent(), pageable, seen);
+        }
+        
+        long total = totalMode == TotalCountMode.EXACT
+            ? exactCount.getAsLong()
+            // An estimate must at least cover the rows already seen plus the one proving a next page
+            : Math.max(estimatedCount.getAsLong(), slice.hasNext() ? seen + 1 : seen);
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+    
+    @Override
+    public long exportProducts(Consumer<Product> sink) {
+        logger.debug("Exporting all products");
+        
+        long[] exported = {0};
+        productRepository.forEachProduct(product -> {
+            sink.accept(product);
+            exported[0]++;
+        });
+        
+        logger.debug("Exported {} products", exported[0]);
+        return exported[0];
+    }
+    
+    private record TimedListState(ProductListState state, long readAt) {
+    }
 }
@@ -0,0 +1,61 @@
+package com.turkcell.product.service.application.service;
+
+import com.turkcell.product.service.domain.exception.ResourceNotFoundException;
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.port.repository.KeysetPage;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ReactiveProductRepositoryPort;
+import com.turkcell.product.service.domain.port.usecase.ReactiveGetProductByIdQuery;
+import com.turkcell.product.service.domain.port.usecase.ReactiveListProductsQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking implementation of the product query use cases, active with the "reactive" profile.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveProductQueryService implements ReactiveGetProductByIdQuery, ReactiveListProductsQuery {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveProductQueryService.class);
+    
+    private final ReactiveProductRepositoryPort productRepository;
+    
+    public ReactiveProductQueryService(ReactiveProductRepositoryPort productRepository) {
+        this.productRepository = productRepository;
+    }
+    
+    @Override
+    public Mono<Product> getProductById(ProductId id) {
+        logger.debug("Retrieving product with ID: {}", id);
+        
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException("Product ID cannot be null"));
+        }
+        
+        return productRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Product", id)));
+    }
+    
+    @Override
+    public Mono<KeysetPage<Product>> listProducts(ProductCursor cursor, int size) {
+        logger.debug("Retrieving products after cursor: sort={} {}, lastId={}, size={}", 
+                    cursor.sortField(), cursor.direction(), cursor.lastId(), size);
+        
+        return productRepository.findAll(cursor, size)
+                .doOnError(e -> logger.error("Failed to retrieve products after cursor", e));
+    }
+    
+    @Override
+    public Flux<Product> streamProducts() {
+        logger.debug("Streaming all products");
+        
+        return productRepository.streamAll()
+                .doOnError(e -> logger.error("Failed to stream products", e));
+    }
+}
@@ -9,11 +9,12 @@ public class ConflictException extends DomainException {
     
     /**
      * Constructs a new conflict exception with the specified detail message.
+     * The exception carries no stack trace.
      * 
      * @param message the detail message
      */
     public ConflictException(String message) {
-        super(message);
+        super(message, null, false);
     }
     
     /**
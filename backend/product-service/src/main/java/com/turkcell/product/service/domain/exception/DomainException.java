@@ -3,6 +3,9 @@ package com.turkcell.product.service.domain.exception;
 /**
  * Base exception for all domain-related exceptions.
  * This is the root exception class for the domain layer.
+ * Subclasses for expected outcomes (not found, conflict) are created without a stack trace:
+ * they are raised and mapped to a response on every such request, and their trace never says
+ * more than the message does.
  */
 public class DomainException extends RuntimeException {
     
@@ -33,4 +36,15 @@ public class DomainException extends RuntimeException {
     public DomainException(Throwable cause) {
         super(cause);
     }
+    
+    /**
+     * Constructs a new domain exception, optionally without capturing a stack trace.
+     * 
+     * @param message the detail message
+     * @param cause the cause, may be null
+     * @param writableStackTrace whether the stack trace is captured
+     */
+    protected DomainException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+    }
 }
@@ -0,0 +1,33 @@
+package com.turkcell.product.service.domain.exception;
+
+/**
+ * Exception thrown when a conditional operation's precondition does not hold.
+ * This typically occurs when the version a client expects is no longer current.
+ */
+public class PreconditionFailedException extends DomainException {
+    
+    /**
+     * Constructs a new precondition failed exception with the specified detail message.
+     * The exception carries no stack trace.
+     * 
+     * @param message the detail message
+     */
+    public PreconditionFailedException(String message) {
+        super(message, null, false);
+    }
+    
+    /**
+     * Constructs a new precondition failed exception for an outdated expected version.
+     * 
+     * @param resourceType the type of resource
+     * @param id the ID of the resource
+     * @param expectedVersion the version the client expected
+     * @return a new PreconditionFailedException instance
+     */
+    public static PreconditionFailedException versionMismatch(String resourceType, Object id, long expectedVersion) {
+        return new PreconditionFailedException(
+            String.format("%s with id '%s' is no longer at version %d. Please refresh and try again.", 
+                         resourceType, id, expectedVersion)
+        );
+    }
+}
@@ -8,11 +8,12 @@ public class ResourceNotFoundException extends DomainException {
     
     /**
      * Constructs a new resource not found exception with the specified detail message.
+     * The exception carries no stack trace.
      * 
      * @param message the detail message
      */
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false);
     }
     
     /**
@@ -27,11 +28,12 @@ public class ResourceNotFoundException extends DomainException {
     
     /**
      * Constructs a new resource not found exception for a specific entity type and ID.
+     * The exception carries no stack trace.
      * 
      * @param entityType the type of entity that was not found
      * @param id the ID of the entity that was not found
      */
     public ResourceNotFoundException(String entityType, Object id) {
-        super(String.format("%s with id '%s' not found", entityType, id));
+        super(String.format("%s with id '%s' not found", entityType, id), null, false);
     }
 }
@@ -2,49 +2,67 @@ package com.turkcell.product.service.domain.model;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Value Object representing monetary value with currency.
- * 
- * @param amount The monetary amount
+ * The amount is held as a {@code long} of minor units (cents, kuruş), so comparisons and
+ * same-currency arithmetic need no BigDecimal. Amounts are rounded to 2 decimal places
+ * with HALF_UP, and currency codes are upper-cased, defaulting to TRY.
+ *
+ * @param minorUnits The amount multiplied by 100
  * @param currency The currency code (defaults to TRY if null or empty)
  */
-public record Money(BigDecimal amount, String currency) {
-    
+public record Money(long minorUnits, String currency) {
+
     private static final String DEFAULT_CURRENCY = "TRY";
-    
+
+    private static final int SCALE = 2;
+
+    private static final int MAX_INTERNED_CURRENCIES = 256;
+
+    /**
+     * Canonical currency codes keyed by every spelling seen so far, so that repeated
+     * codes neither allocate nor get normalized again.
+     */
+    private static final ConcurrentMap<String, String> CURRENCIES = new ConcurrentHashMap<>();
+
+    static {
+        CURRENCIES.put(DEFAULT_CURRENCY, DEFAULT_CURRENCY);
+    }
+
     public Money {
-        if (amount == null) {
-            throw new IllegalArgumentException("Amount cannot be null");
-        }
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Amount must be non-negative, got: " + amount);
-        }
-        
-        // Set default currency if null or empty
-        if (currency == null || currency.trim().isEmpty()) {
-            currency = DEFAULT_CURRENCY;
-        } else {
-            currency = currency.trim().toUpperCase();
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Amount must be non-negative, got: " + minorUnits + " minor units");
         }
-        
-        // Scale amount to 2 decimal places for monetary values
-        amount = amount.setScale(2, RoundingMode.HALF_UP);
+        currency = canonicalCurrency(currency);
     }
-    
+
+    /**
+     * Creates a Money instance.
+     *
+     * @param amount The monetary amount
+     * @param currency The currency code (defaults to TRY if null or empty)
+     */
+    public Money(BigDecimal amount, String currency) {
+        this(toMinorUnits(amount), currency);
+    }
+
     /**
      * Creates a Money instance with TRY currency.
-     * 
+     *
      * @param amount The monetary amount
      * @return A new Money instance with TRY currency
      */
     public static Money of(BigDecimal amount) {
         return new Money(amount, DEFAULT_CURRENCY);
     }
-    
+
     /**
      * Creates a Money instance with specified currency.
-     * 
+     *
      * @param amount The monetary amount
      * @param currency The currency code
      * @return A new Money instance
@@ -52,21 +70,41 @@ public record Money(BigDecimal amount, String currency) {
     public static Money of(BigDecimal amount, String currency) {
         return new Money(amount, currency);
     }
-    
+
     /**
      * Creates a Money instance from double value with TRY currency.
-     * 
+     *
      * @param amount The monetary amount as double
      * @return A new Money instance with TRY currency
      */
     public static Money of(double amount) {
         return new Money(BigDecimal.valueOf(amount), DEFAULT_CURRENCY);
     }
-    
+
+    /**
+     * Creates a Money instance from minor units without any decimal arithmetic.
+     *
+     * @param minorUnits The amount in minor units, e.g. 1999 for 19.99
+     * @param currency The currency code
+     * @return A new Money instance
+     */
+    public static Money ofMinor(long minorUnits, String currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * Returns the amount with 2 decimal places.
+     *
+     * @return The monetary amount
+     */
+    public BigDecimal amount() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
     /**
      * Adds another Money value to this one.
      * Both Money objects must have the same currency.
-     * 
+     *
      * @param other The Money to add
      * @return A new Money instance with the sum
      * @throws IllegalArgumentException if currencies don't match
@@ -77,12 +115,16 @@ public record Money(BigDecimal amount, String currency) {
                 String.format("Cannot add different currencies: %s and %s", this.currency, other.currency)
             );
         }
-        return new Money(this.amount.add(other.amount), this.currency);
+        try {
+            return new Money(Math.addExact(this.minorUnits, other.minorUnits), this.currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Sum is too large: " + this + " + " + other);
+        }
     }
-    
+
     /**
      * Multiplies this Money by a factor.
-     * 
+     *
      * @param factor The multiplication factor
      * @return A new Money instance with the product
      */
@@ -90,22 +132,34 @@ public record Money(BigDecimal amount, String currency) {
         if (factor == null) {
             throw new IllegalArgumentException("Factor cannot be null");
         }
-        return new Money(this.amount.multiply(factor), this.currency);
+        if (factor.signum() < 0) {
+            throw new IllegalArgumentException("Amount must be non-negative, got factor: " + factor);
+        }
+
+        // Whole factors (quantities) stay in long arithmetic and need no rounding
+        if (factor.scale() <= 0) {
+            try {
+                return new Money(Math.multiplyExact(minorUnits, factor.longValueExact()), currency);
+            } catch (ArithmeticException e) {
+                // Falls through to the exact decimal path, which reports the overflow
+            }
+        }
+        return new Money(amount().multiply(factor), currency);
     }
-    
+
     /**
      * Checks if this Money is zero.
-     * 
+     *
      * @return true if amount is zero
      */
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return minorUnits == 0;
     }
-    
+
     /**
      * Checks if this Money is greater than another Money.
      * Both Money objects must have the same currency.
-     * 
+     *
      * @param other The Money to compare with
      * @return true if this Money is greater than the other
      * @throws IllegalArgumentException if currencies don't match
@@ -116,11 +170,57 @@ public record Money(BigDecimal amount, String currency) {
                 String.format("Cannot compare different currencies: %s and %s", this.currency, other.currency)
             );
         }
-        return this.amount.compareTo(other.amount) > 0;
+        return this.minorUnits > other.minorUnits;
     }
-    
+
     @Override
     public String toString() {
-        return String.format("%.2f %s", amount, currency);
+        return amount().toPlainString() + " " + currency;
+    }
+
+    /**
+     * Rounds an amount to 2 decimal places with HALF_UP and returns its minor units.
+     */
+    private static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("Amount must be non-negative, got: " + amount);
+        }
+
+        BigDecimal scaled = amount.scale() == SCALE ? amount : amount.setScale(SCALE, RoundingMode.HALF_UP);
+        try {
+            return scaled.unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount is too large, got: " + amount);
+        }
+    }
+
+    /**
+     * Resolves the canonical instance of a currency code.
+     * Known spellings are a single map lookup; new ones are normalized once and remembered,
+     * up to a fixed number so arbitrary input cannot grow the map without bound.
+     */
+    private static String canonicalCurrency(String currency) {
+        if (currency == null) {
+            return DEFAULT_CURRENCY;
+        }
+        String canonical = CURRENCIES.get(currency);
+        if (canonical != null) {
+            return canonical;
+        }
+
+        String normalized = currency.trim();
+        if (normalized.isEmpty()) {
+            return DEFAULT_CURRENCY;
+        }
+        normalized = normalized.toUpperCase(Locale.ROOT);
+        if (CURRENCIES.size() >= MAX_INTERNED_CURRENCIES) {
+            return normalized;
+        }
+        canonical = CURRENCIES.computeIfAbsent(normalized, code -> code);
+        CURRENCIES.putIfAbsent(currency, canonical);
+        return canonical;
     }
 }
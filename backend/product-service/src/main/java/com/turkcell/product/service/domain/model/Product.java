@@ -1,6 +1,5 @@
 package com.turkcell.product.service.domain.model;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 /**
@@ -35,17 +34,52 @@ public class Product {
     public Product(ProductId id, String name, String description, Money price, 
                    int stockQuantity, ProductStatus status, Instant createdAt, 
                    Instant updatedAt, long version) {
+        this(id, name, description, price, stockQuantity, 
+             status != null ? status : ProductStatus.getDefault(), 
+             createdAt != null ? createdAt : Instant.now(), 
+             updatedAt != null ? updatedAt : Instant.now(), 
+             version, true);
+    }
+    
+    private Product(ProductId id, String name, String description, Money price, 
+                    int stockQuantity, ProductStatus status, Instant createdAt, 
+                    Instant updatedAt, long version, boolean validate) {
         this.id = id;
         this.name = name;
         this.description = description;
         this.price = price;
         this.stockQuantity = stockQuantity;
-        this.status = status != null ? status : ProductStatus.getDefault();
-        this.createdAt = createdAt != null ? createdAt : Instant.now();
-        this.updatedAt = updatedAt != null ? updatedAt : Instant.now();
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
         this.version = version;
         
-        validate();
+        if (validate) {
+            validate();
+        }
+    }
+    
+    /**
+     * Factory method for restoring a persisted Product.
+     * The state is taken as is, without validation or defaults: it was validated before it
+     * was stored and the database constraints still hold for it. Only the persistence layer
+     * should call this; anything built from external input goes through the constructor.
+     * 
+     * @param id The product identifier
+     * @param name The product name
+     * @param description The product description
+     * @param price The product price
+     * @param stockQuantity The stock quantity
+     * @param status The product status
+     * @param createdAt The creation timestamp
+     * @param updatedAt The last update timestamp
+     * @param version The version for optimistic locking
+     * @return The restored Product instance
+     */
+    public static Product rehydrate(ProductId id, String name, String description, Money price, 
+                                    int stockQuantity, ProductStatus status, Instant createdAt, 
+                                    Instant updatedAt, long version) {
+        return new Product(id, name, description, price, stockQuantity, status, createdAt, updatedAt, version, false);
     }
     
     /**
@@ -215,7 +249,7 @@ public class Product {
             throw new IllegalArgumentException("Product price cannot be null");
         }
         
-        if (price.amount().compareTo(BigDecimal.ZERO) < 0) {
+        if (price.minorUnits() < 0) {
             throw new IllegalArgumentException("Product price must be non-negative");
         }
     }
@@ -1,6 +1,10 @@
 package com.turkcell.product.service.domain.model;
 
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Value Object representing a Product identifier.
@@ -9,6 +13,21 @@ import java.util.UUID;
  */
 public record ProductId(UUID value) {
     
+    private static final int COUNTER_BITS = 12;
+    
+    /**
+     * Last issued Unix millisecond timestamp shifted left by {@link #COUNTER_BITS}, plus the counter.
+     */
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+    
+    /**
+     * Source of the 62 random bits. IDs are exposed in URLs, so these bits must not be predictable
+     * from earlier IDs. One DRBG instance is shared by all threads, which it supports; requests run
+     * on short-lived virtual threads, so per-thread instances would be created and seeded again
+     * for almost every ID.
+     */
+    private static final SecureRandom SECURE_RANDOM = newSecureRandom();
+    
     public ProductId {
         if (value == null) {
             throw new IllegalArgumentException("ProductId value cannot be null");
@@ -16,12 +35,31 @@ public record ProductId(UUID value) {
     }
     
     /**
-     * Creates a new ProductId with a random UUID.
+     * Creates a new ProductId with a time-ordered UUID (version 7, RFC 9562).
+     * IDs sort by creation time, so new rows are appended at the end of the primary key index
+     * instead of being scattered across it. Within one millisecond a 12-bit counter keeps
+     * them strictly increasing; when it runs out or the clock goes back, the timestamp
+     * is advanced past the last one issued. The remaining 62 bits come from a {@link SecureRandom}.
      * 
      * @return A new ProductId instance
      */
     public static ProductId generate() {
-        return new ProductId(UUID.randomUUID());
+        long timestamp;
+        while (true) {
+            long last = LAST_TIMESTAMP.get();
+            // Start each millisecond at a random counter in the lower half, leaving room to count up
+            long candidate = (System.currentTimeMillis() << COUNTER_BITS) | ThreadLocalRandom.current().nextLong(1L << (COUNTER_BITS - 1));
+            timestamp = Math.max(candidate, last + 1);
+            if (LAST_TIMESTAMP.compareAndSet(last, timestamp)) {
+                break;
+            }
+        }
+        
+        long millis = timestamp >>> COUNTER_BITS;
+        long counter = timestamp & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (millis << 16) | 0x7000L | counter;
+        long leastSigBits = (SECURE_RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new ProductId(new UUID(mostSigBits, leastSigBits));
     }
     
     /**
@@ -43,4 +81,12 @@ public record ProductId(UUID value) {
     public String toString() {
         return value.toString();
     }
+    
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("DRBG SecureRandom is not available", e);
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package com.turkcell.product.service.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Partial change to a product. Null properties are left unchanged.
+ * 
+ * @param name The new product name
+ * @param description The new product description
+ * @param priceAmount The new price amount, keeping the current currency if none is given
+ * @param priceCurrency The new price currency, keeping the current amount if none is given
+ * @param stockQuantity The new stock quantity
+ * @param status The new product status
+ */
+public record ProductPatch(
+    String name,
+    String description,
+    BigDecimal priceAmount,
+    String priceCurrency,
+    Integer stockQuantity,
+    ProductStatus status
+) {
+    
+    /**
+     * Checks whether the patch changes anything.
+     * 
+     * @return true if at least one property is set
+     */
+    public boolean isEmpty() {
+        return name == null && description == null && priceAmount == null 
+            && priceCurrency == null && stockQuantity == null && status == null;
+    }
+    
+    /**
+     * Applies the patch to a product through {@link Product#update}, so the usual business rules are enforced.
+     * 
+     * @param product The product to change
+     */
+    public void applyTo(Product product) {
+        Money currentPrice = product.getPrice();
+        Money newPrice = priceAmount == null && priceCurrency == null
+            ? currentPrice
+            : Money.of(
+                priceAmount != null ? priceAmount : currentPrice.amount(),
+                priceCurrency != null ? priceCurrency : currentPrice.currency());
+        
+        product.update(
+            name != null ? name : product.getName(),
+            description != null ? description : product.getDescription(),
+            newPrice,
+            stockQuantity != null ? stockQuantity : product.getStockQuantity(),
+            status != null ? status : product.getStatus()
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.turkcell.product.service.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Read model carrying a subset of a product's stored properties.
+ * Unlike the {@link Product} aggregate it enforces no business rules; properties
+ * that were not selected are null.
+ * 
+ * @param id The product identifier
+ * @param name The product name
+ * @param description The product description
+ * @param priceAmount The price amount
+ * @param priceCurrency The price currency code
+ * @param stockQuantity The stock quantity
+ * @param status The product status
+ * @param createdAt The creation timestamp
+ * @param updatedAt The last update timestamp
+ * @param version The version for optimistic locking
+ */
+public record ProductView(
+    ProductId id,
+    String name,
+    String description,
+    BigDecimal priceAmount,
+    String priceCurrency,
+    Integer stockQuantity,
+    ProductStatus status,
+    Instant createdAt,
+    Instant updatedAt,
+    Long version
+) {
+    
+    /**
+     * Creates a view carrying all properties of a product.
+     * 
+     * @param product the product
+     * @return the full view of the product
+     */
+    public static ProductView of(Product product) {
+        return new ProductView(
+            product.getId(),
+            product.getName(),
+            product.getDescription(),
+            product.getPrice().amount(),
+            product.getPrice().currency(),
+            product.getStockQuantity(),
+            product.getStatus(),
+            product.getCreatedAt(),
+            product.getUpdatedAt(),
+            product.getVersion()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.turkcell.product.service.domain.port.cache;
+
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Output port for an in-process cache of Product aggregates keyed by ProductId.
+ * Cached products are checked against the current version on every read. Lookups of unknown
+ * IDs are remembered for a short time without such a check, so repeated requests for missing
+ * products do not reach the database; a product created through another instance can therefore
+ * look missing for up to the negative entry lifetime.
+ */
+public interface ProductCachePort {
+    
+    /**
+     * Returns the cached product if it is still current, loading and caching it otherwise.
+     * A cached product is only returned when the current version is not newer than its own,
+     * so writes made through another instance or outside the cache are never shadowed.
+     * An empty load result is cached as a negative entry.
+     * 
+     * @param id the product ID
+     * @param versionLoader reads the current version from the repository
+     * @param loader loads the product from the repository on a miss
+     * @return the product, or empty if it does not exist
+     */
+    Optional<Product> get(ProductId id, Function<ProductId, Optional<Long>> versionLoader, 
+                          Function<ProductId, Optional<Product>> loader);
+    
+    /**
+     * Returns the cached product without loading it, if it is still current.
+     * An outdated entry is evicted.
+     * 
+     * @param id the product ID
+     * @param versionLoader reads the current version from the repository; only called for cached products
+     * @return the cached product, or empty if it is not cached or outdated
+     */
+    Optional<Product> getIfCurrent(ProductId id, Function<ProductId, Optional<Long>> versionLoader);
+    
+    /**
+     * Checks whether the product is currently cached as missing.
+     * 
+     * @param id the product ID
+     * @return true if a recent lookup found no product with this ID
+     */
+    boolean isKnownMissing(ProductId id);
+    
+    /**
+     * Caches a product written by the current transaction once it commits.
+     * A cached entry is only replaced by a product of the same or a newer version.
+     * 
+     * @param product the written product
+     */
+    void putAfterCommit(Product product);
+    
+    /**
+     * Removes a product now and again once the current transaction commits.
+     * 
+     * @param id the product ID
+     */
+    void evictAfterCommit(ProductId id);
+}
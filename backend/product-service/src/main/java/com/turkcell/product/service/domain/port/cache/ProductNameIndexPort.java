@@ -0,0 +1,26 @@
+package com.turkcell.product.service.domain.port.cache;
+
+/**
+ * Output port for an in-memory index of taken product names.
+ * The index may report false positives but never false negatives, so a negative
+ * answer settles name uniqueness without a database round trip while a positive
+ * answer still has to be confirmed against the repository.
+ */
+public interface ProductNameIndexPort {
+    
+    /**
+     * Checks whether a name may be taken.
+     * Answers true for every name while the index is still being built.
+     * 
+     * @param name the product name
+     * @return false if the name is definitely not taken, true if it might be
+     */
+    boolean mightContain(String name);
+    
+    /**
+     * Records a name as taken.
+     * 
+     * @param name the product name
+     */
+    void add(String name);
+}
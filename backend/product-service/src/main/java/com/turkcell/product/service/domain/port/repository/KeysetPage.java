@@ -0,0 +1,38 @@
+package com.turkcell.product.service.domain.port.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset (cursor-based) listing.
+ * 
+ * @param content the items of this page
+ * @param nextCursor the cursor for the following page, null if this is the last page
+ * @param <T> the item type
+ */
+public record KeysetPage<T>(List<T> content, ProductCursor nextCursor) {
+    
+    public KeysetPage {
+        content = content != null ? List.copyOf(content) : List.of();
+    }
+    
+    /**
+     * Checks if another page follows this one.
+     * 
+     * @return true if a next cursor is available
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+    
+    /**
+     * Maps the content of this page, keeping the cursor.
+     * 
+     * @param mapper the mapping function
+     * @param <R> the target item type
+     * @return a new page with mapped content
+     */
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,60 @@
+package com.turkcell.product.service.domain.port.repository;
+
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position in a keyset (cursor-based) product listing.
+ * A cursor holds the sort key and ID of the last product already returned, so the
+ * next page starts right after it instead of skipping an offset.
+ * 
+ * @param sortField the field the listing is ordered by
+ * @param direction the sort direction, also applied to the ID tie-breaker
+ * @param sortValue the sort key of the last returned product, null for the first page
+ * @param lastId the ID of the last returned product, null for the first page
+ */
+public record ProductCursor(ProductSortField sortField, Sort.Direction direction, Object sortValue, ProductId lastId) {
+    
+    public ProductCursor {
+        if (sortField == null) {
+            throw new IllegalArgumentException("Sort field cannot be null");
+        }
+        if (direction == null) {
+            throw new IllegalArgumentException("Sort direction cannot be null");
+        }
+        if ((sortValue == null) != (lastId == null)) {
+            throw new IllegalArgumentException("Sort value and last ID must be provided together");
+        }
+    }
+    
+    /**
+     * Creates a cursor pointing at the start of a listing.
+     * 
+     * @param sortField the field to order by
+     * @param direction the sort direction
+     * @return a cursor for the first page
+     */
+    public static ProductCursor first(ProductSortField sortField, Sort.Direction direction) {
+        return new ProductCursor(sortField, direction, null, null);
+    }
+    
+    /**
+     * Creates the cursor that continues after the given product.
+     * 
+     * @param last the last product of the current page
+     * @return a cursor for the next page
+     */
+    public ProductCursor after(Product last) {
+        return new ProductCursor(sortField, direction, sortField.valueOf(last), last.getId());
+    }
+    
+    /**
+     * Checks if this cursor points at the start of the listing.
+     * 
+     * @return true if no product has been returned yet
+     */
+    public boolean isFirst() {
+        return lastId == null;
+    }
+}
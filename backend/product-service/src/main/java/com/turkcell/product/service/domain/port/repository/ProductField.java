@@ -0,0 +1,48 @@
+package com.turkcell.product.service.domain.port.repository;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Enum of the stored product properties that a projection can select.
+ */
+public enum ProductField {
+    
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    PRICE_AMOUNT("priceAmount"),
+    PRICE_CURRENCY("priceCurrency"),
+    STOCK_QUANTITY("stockQuantity"),
+    STATUS("status"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+    
+    private final String property;
+    
+    ProductField(String property) {
+        this.property = property;
+    }
+    
+    /**
+     * Returns the API property name of this field.
+     * 
+     * @return the property name, e.g. {@code priceAmount}
+     */
+    public String property() {
+        return property;
+    }
+    
+    /**
+     * Resolves a field from its API property name.
+     * 
+     * @param property the property name
+     * @return an Optional containing the field if it is stored, empty otherwise
+     */
+    public static Optional<ProductField> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+}
@@ -0,0 +1,50 @@
+package com.turkcell.product.service.domain.port.repository;
+
+import com.turkcell.product.service.domain.model.ProductStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Criteria narrowing a product listing; null criteria do not filter.
+ * Every criterion compiles to a sargable SQL condition backed by an index:
+ * a {@code price_amount} range, {@code status} equality and {@code stock_quantity > 0}.
+ * 
+ * @param minPrice the lowest price to include, inclusive
+ * @param maxPrice the highest price to include, inclusive
+ * @param status the status products must have
+ * @param inStock true for products with stock, false for products without stock
+ */
+public record ProductFilter(BigDecimal minPrice, BigDecimal maxPrice, ProductStatus status, Boolean inStock) {
+    
+    private static final ProductFilter NONE = new ProductFilter(null, null, null, null);
+    
+    public ProductFilter {
+        if (minPrice != null && minPrice.signum() < 0) {
+            throw new IllegalArgumentException("Minimum price cannot be negative");
+        }
+        if (maxPrice != null && maxPrice.signum() < 0) {
+            throw new IllegalArgumentException("Maximum price cannot be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("Minimum price cannot exceed maximum price");
+        }
+    }
+    
+    /**
+     * Returns the filter that matches every product.
+     * 
+     * @return an empty filter
+     */
+    public static ProductFilter none() {
+        return NONE;
+    }
+    
+    /**
+     * Checks if this filter has no criteria.
+     * 
+     * @return true if every product matches
+     */
+    public boolean isEmpty() {
+        return minPrice == null && maxPrice == null && status == null && inStock == null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.turkcell.product.service.domain.port.repository;
+
+import java.time.Instant;
+
+/**
+ * The state of the product table that list pages depend on beyond their query.
+ * Creates and updates move {@code lastModified} forward and deletes increase {@code deletions},
+ * so any change to the products gives a state that has not been seen before.
+ * 
+ * @param lastModified the newest updatedAt, null if there are no products
+ * @param deletions the number of delete statements run against the products
+ */
+public record ProductListState(Instant lastModified, long deletions) {
+}
@@ -2,10 +2,17 @@ package com.turkcell.product.service.domain.port.repository;
 
 import com.turkcell.product.service.domain.model.Product;
 import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Port interface for Product repository operations.
@@ -15,12 +22,24 @@ public interface ProductRepositoryPort {
     
     /**
      * Saves a product.
+     * New products are inserted; existing products are updated only if the stored
+     * version still matches {@link Product#getVersion()}.
      * 
      * @param product the product to save
      * @return the saved product with updated version and timestamps
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the stored version has moved on
      */
     Product save(Product product);
     
+    /**
+     * Inserts many new products using batched statements.
+     * Products whose ID or name is already taken are skipped rather than failing the batch.
+     * 
+     * @param products the products to insert
+     * @return the IDs of the products that were actually inserted
+     */
+    Set<ProductId> insertAll(List<Product> products);
+    
     /**
      * Finds a product by its ID.
      * 
@@ -29,6 +48,15 @@ public interface ProductRepositoryPort {
      */
     Optional<Product> findById(ProductId id);
     
+    /**
+     * Finds a product by its ID, reading only the given fields.
+     * 
+     * @param id the product ID
+     * @param fields the fields to read
+     * @return an Optional containing the projected product if found, empty otherwise
+     */
+    Optional<ProductView> findById(ProductId id, Set<ProductField> fields);
+    
     /**
      * Finds all products with pagination.
      * 
@@ -37,6 +65,65 @@ public interface ProductRepositoryPort {
      */
     Page<Product> findAll(Pageable pageable);
     
+    /**
+     * Finds a slice of products without counting the total.
+     * 
+     * @param filter the criteria products must match
+     * @param pageable the pagination information
+     * @return a slice of products that only knows whether a next slice exists
+     */
+    Slice<Product> findAllSlice(ProductFilter filter, Pageable pageable);
+    
+    /**
+     * Finds a slice of products, reading only the given fields.
+     * 
+     * @param fields the fields to read
+     * @param filter the criteria products must match
+     * @param pageable the pagination information
+     * @return a slice of projected products
+     */
+    Slice<ProductView> findAllSlice(Set<ProductField> fields, ProductFilter filter, Pageable pageable);
+    
+    /**
+     * Finds a slice of products matching a full-text query, most relevant first.
+     * 
+     * @param query the search text in web search syntax (words, "phrases", or, -exclusions)
+     * @param filter the criteria products must match as well
+     * @param pageable the pagination information; its sort is ignored
+     * @return a slice of matching products ordered by relevance
+     */
+    Slice<Product> search(String query, ProductFilter filter, Pageable pageable);
+    
+    /**
+     * Counts the products matching a filter and, optionally, a full-text query.
+     * 
+     * @param query the search text, or null for no full-text condition
+     * @param filter the criteria products must match
+     * @return the number of matching products
+     */
+    long countMatching(String query, ProductFilter filter);
+    
+    /**
+     * Estimates the number of products matching a filter and, optionally, a full-text query
+     * from the planner's row estimate, without running the query.
+     * 
+     * @param query the search text, or null for no full-text condition
+     * @param filter the criteria products must match
+     * @return the estimated number of matching products
+     */
+    long estimateMatching(String query, ProductFilter filter);
+    
+    /**
+     * Finds the products following a keyset cursor.
+     * Unlike offset pagination, the cost of a page does not grow with its position.
+     * 
+     * @param cursor the position to continue from
+     * @param filter the criteria products must match
+     * @param limit the maximum number of products to return
+     * @return a page of products with the cursor for the next page
+     */
+    KeysetPage<Product> findAll(ProductCursor cursor, ProductFilter filter, int limit);
+    
     /**
      * Deletes a product by its ID.
      * 
@@ -52,6 +139,14 @@ public interface ProductRepositoryPort {
      */
     boolean existsByName(String name);
     
+    /**
+     * Finds which of the given names are already taken, in a single query.
+     * 
+     * @param names the product names to check
+     * @return the subset of names that already exist
+     */
+    Set<String> findExistingNames(Collection<String> names);
+    
     /**
      * Checks if a product exists with the given name excluding a specific ID.
      * This is useful for update operations to check name uniqueness.
@@ -76,4 +171,62 @@ public interface ProductRepositoryPort {
      * @return the total number of products
      */
     long count();
+    
+    /**
+     * Estimates the total number of products from database statistics.
+     * This is much cheaper than {@link #count()} on large tables but may lag
+     * behind recent writes.
+     * 
+     * @return the estimated number of products
+     */
+    long estimateCount();
+    
+    /**
+     * Finds all products with the given IDs using a single query.
+     * 
+     * @param ids the product IDs
+     * @return the existing products, in no particular order
+     */
+    List<Product> findAllByIds(Collection<ProductId> ids);
+    
+    /**
+     * Finds the current state of a product, for a write or to replace a stale cached copy.
+     * Reads the table directly, bypassing every cache, so the version returned is the
+     * committed one (on the primary in a write transaction).
+     * 
+     * @param id the product ID
+     * @return an Optional containing the product if found, empty otherwise
+     */
+    Optional<Product> findCurrentById(ProductId id);
+    
+    /**
+     * Finds only the current versions of several products using a single query.
+     * 
+     * @param ids the product IDs
+     * @return the version of every existing product, keyed by ID
+     */
+    Map<ProductId, Long> findVersionsByIds(Collection<ProductId> ids);
+    
+    /**
+     * Finds only the current version of a product.
+     * 
+     * @param id the product ID
+     * @return the version if the product exists, empty otherwise
+     */
+    Optional<Long> findVersionById(ProductId id);
+    
+    /**
+     * Finds the current state of the products that list pages depend on.
+     * 
+     * @return the newest updatedAt and the number of deletions so far
+     */
+    ProductListState findListState();
+    
+    /**
+     * Passes every product to the given action, one at a time and in no particular order.
+     * Memory use does not depend on the number of products.
+     * 
+     * @param action receives each product
+     */
+    void forEachProduct(Consumer<Product> action);
 }
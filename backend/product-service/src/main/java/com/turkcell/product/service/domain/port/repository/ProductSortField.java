@@ -0,0 +1,93 @@
+package com.turkcell.product.service.domain.port.repository;
+
+import com.turkcell.product.service.domain.model.Product;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Enum of the product properties a listing can be ordered by.
+ * Every value is backed by a composite (column, id) index, plus a (status, column, id)
+ * index for status-filtered listings, created in {@code V2__add_listing_indexes.sql},
+ * so that both offset and keyset listings avoid full-table sorts. Sorting by anything
+ * else is rejected rather than falling back to a sort of the whole table.
+ */
+public enum ProductSortField {
+    
+    /**
+     * Creation timestamp
+     */
+    CREATED_AT("createdAt"),
+    
+    /**
+     * Last update timestamp
+     */
+    UPDATED_AT("updatedAt"),
+    
+    /**
+     * Product name
+     */
+    NAME("name"),
+    
+    /**
+     * Price amount
+     */
+    PRICE("priceAmount");
+    
+    private final String property;
+    
+    ProductSortField(String property) {
+        this.property = property;
+    }
+    
+    /**
+     * Returns the API property name of this sort field.
+     * 
+     * @return the property name, e.g. {@code createdAt}
+     */
+    public String property() {
+        return property;
+    }
+    
+    /**
+     * Resolves a sort field from its API property name.
+     * 
+     * @param property the property name
+     * @return an Optional containing the sort field if supported, empty otherwise
+     */
+    public static Optional<ProductSortField> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+    
+    /**
+     * Checks that every order of a sort is on a supported field.
+     * 
+     * @param sort the requested sort
+     * @throws IllegalArgumentException if the sort uses a field without a backing index
+     */
+    public static void requireSupported(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (fromProperty(order.getProperty()).isEmpty()) {
+                throw new IllegalArgumentException("Unsupported sort field: " + order.getProperty());
+            }
+        }
+    }
+    
+    /**
+     * Extracts the value of this sort field from a product.
+     * 
+     * @param product the product
+     * @return the sort key value
+     */
+    public Object valueOf(Product product) {
+        return switch (this) {
+            case CREATED_AT -> product.getCreatedAt();
+            case UPDATED_AT -> product.getUpdatedAt();
+            case NAME -> product.getName();
+            case PRICE -> product.getPrice().amount();
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.turkcell.product.service.domain.port.repository;
+
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking repository port for reading products.
+ * Implementations must not block the subscribing thread and must honour downstream demand,
+ * so large results can be streamed without being buffered.
+ */
+public interface ReactiveProductRepositoryPort {
+    
+    /**
+     * Finds a product by its ID.
+     * 
+     * @param id the product ID
+     * @return the product, or an empty Mono if not found
+     */
+    Mono<Product> findById(ProductId id);
+    
+    /**
+     * Finds the products following a cursor position, fetching one extra product to detect a next page.
+     * 
+     * @param cursor the position to continue from
+     * @param limit the page size
+     * @return the page of products
+     */
+    Mono<KeysetPage<Product>> findAll(ProductCursor cursor, int limit);
+    
+    /**
+     * Streams all products ordered by ID, fetching rows as the subscriber requests them.
+     * 
+     * @return all products
+     */
+    Flux<Product> streamAll();
+}
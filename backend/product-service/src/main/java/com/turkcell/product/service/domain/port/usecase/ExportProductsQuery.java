@@ -0,0 +1,20 @@
+package com.turkcell.product.service.domain.port.usecase;
+
+import com.turkcell.product.service.domain.model.Product;
+
+import java.util.function.Consumer;
+
+/**
+ * Query port for exporting the whole product catalog.
+ * This interface defines the contract for the export products operation.
+ */
+public interface ExportProductsQuery {
+    
+    /**
+     * Passes every product to the given sink, one at a time, from a single consistent snapshot.
+     * 
+     * @param sink receives each product; exceptions it throws abort the export
+     * @return the number of exported products
+     */
+    long exportProducts(Consumer<Product> sink);
+}
@@ -2,6 +2,13 @@ package com.turkcell.product.service.domain.port.usecase;
 
 import com.turkcell.product.service.domain.model.Product;
 import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductView;
+import com.turkcell.product.service.domain.port.repository.ProductField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Query port for retrieving a product by its ID.
@@ -17,4 +24,30 @@ public interface GetProductByIdQuery {
      * @throws com.turkcell.product.service.domain.exception.ResourceNotFoundException if the product is not found
      */
     Product getProductById(ProductId id);
+    
+    /**
+     * Retrieves a product by its ID, reading only the given fields.
+     * 
+     * @param id the product ID
+     * @param fields the fields to read
+     * @return the projected product
+     * @throws com.turkcell.product.service.domain.exception.ResourceNotFoundException if the product is not found
+     */
+    ProductView getProductById(ProductId id, Set<ProductField> fields);
+    
+    /**
+     * Retrieves several products at once; unknown IDs are left out rather than reported as errors.
+     * 
+     * @param ids the product IDs, without duplicates
+     * @return the found products keyed by ID, in the order of the given IDs
+     */
+    Map<ProductId, Product> getProductsByIds(List<ProductId> ids);
+    
+    /**
+     * Retrieves only the current version of a product, without loading it when it is not cached.
+     * 
+     * @param id the product ID
+     * @return the version if the product exists, empty otherwise
+     */
+    Optional<Long> getProductVersion(ProductId id);
 }
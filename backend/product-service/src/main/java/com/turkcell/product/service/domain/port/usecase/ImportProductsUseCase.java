@@ -0,0 +1,22 @@
+package com.turkcell.product.service.domain.port.usecase;
+
+import com.turkcell.product.service.domain.model.Product;
+
+import java.util.List;
+
+/**
+ * Use case port for importing many products at once.
+ * This interface defines the contract for the bulk import operation.
+ */
+public interface ImportProductsUseCase {
+    
+    /**
+     * Imports a batch of already validated products.
+     * Name uniqueness is checked for the whole batch, both against stored products
+     * and within the batch itself; a taken name rejects only that product.
+     * 
+     * @param products the products to import
+     * @return one result per product, in the same order as the input
+     */
+    List<ProductImportResult> importProducts(List<Product> products);
+}
@@ -1,8 +1,18 @@
 package com.turkcell.product.service.domain.port.usecase;
 
 import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductView;
+import com.turkcell.product.service.domain.port.repository.KeysetPage;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ProductField;
+import com.turkcell.product.service.domain.port.repository.ProductFilter;
+import com.turkcell.product.service.domain.port.repository.ProductListState;
+import com.turkcell.product.service.domain.port.repository.ProductSortField;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Set;
 
 /**
  * Query port for listing products with pagination.
@@ -15,6 +25,73 @@ public interface ListProductsQuery {
      * 
      * @param pageable the pagination information (page, size, sort)
      * @return a page of products
+     * @throws IllegalArgumentException if the sort is not on a supported {@link ProductSortField}
      */
     Page<Product> listProducts(Pageable pageable);
+    
+    /**
+     * Retrieves a paginated list of products matching a filter, computing the total as requested.
+     * Filtering happens in the database.
+     * 
+     * @param pageable the pagination information (page, size, sort)
+     * @param filter the criteria products must match
+     * @param totalMode how the total number of products is determined
+     * @return a {@link Page} for {@link TotalCountMode#EXACT} and {@link TotalCountMode#APPROXIMATE},
+     *         a {@link Slice} without total for {@link TotalCountMode#NONE}
+     * @throws IllegalArgumentException if the sort is not on a supported {@link ProductSortField}
+     */
+    Slice<Product> listProducts(Pageable pageable, ProductFilter filter, TotalCountMode totalMode);
+    
+    /**
+     * Retrieves a paginated list of products matching a filter, reading only the given fields.
+     * 
+     * @param pageable the pagination information (page, size, sort)
+     * @param filter the criteria products must match
+     * @param totalMode how the total number of products is determined
+     * @param fields the fields to read
+     * @return a page or slice of projected products, see {@link #listProducts(Pageable, ProductFilter, TotalCountMode)}
+     * @throws IllegalArgumentException if the sort is not on a supported {@link ProductSortField}
+     */
+    Slice<ProductView> listProducts(Pageable pageable, ProductFilter filter, TotalCountMode totalMode, Set<ProductField> fields);
+    
+    /**
+     * Searches products by name and description, most relevant first.
+     * Names weigh more than descriptions; words are stemmed and lowercased with Turkish rules.
+     * 
+     * @param query the search text in web search syntax (words, "phrases", or, -exclusions)
+     * @param filter the criteria products must match as well
+     * @param pageable the page and size; the sort is ignored in favour of relevance
+     * @param totalMode how the total number of matches is determined
+     * @return a page or slice of matching products, see {@link #listProducts(Pageable, ProductFilter, TotalCountMode)}
+     * @throws IllegalArgumentException if the query is blank or too long
+     */
+    Slice<Product> searchProducts(String query, ProductFilter filter, Pageable pageable, TotalCountMode totalMode);
+    
+    /**
+     * Retrieves a page of products using keyset (cursor-based) pagination.
+     * 
+     * @param cursor the position to continue from
+     * @param filter the criteria products must match; must be the same for every page of a listing
+     * @param size the maximum number of products to return
+     * @return a page of products with the cursor for the next page
+     */
+    KeysetPage<Product> listProducts(ProductCursor cursor, ProductFilter filter, int size);
+    
+    /**
+     * Retrieves the current state of the products that list pages depend on.
+     * Use this state to decide whether a client's copy of a list page is still current.
+     * 
+     * @return the newest updatedAt and the number of deletions so far
+     */
+    ProductListState getListState();
+    
+    /**
+     * Retrieves a recently read state of the products, reading it only if none is recent enough.
+     * The state may be slightly older than the data, which is safe for tagging a response: an
+     * older state can only fail to match later, never match a changed listing. It must not be
+     * used to answer a conditional request.
+     * 
+     * @return a state at most the configured age old
+     */
+    ProductListState getRecentListState();
 }
@@ -0,0 +1,26 @@
+package com.turkcell.product.service.domain.port.usecase;
+
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductPatch;
+
+/**
+ * Use case port for conditionally applying a partial change to a product.
+ * This interface defines the contract for the patch product operation.
+ */
+public interface PatchProductUseCase {
+    
+    /**
+     * Applies a partial change to a product if it is still at the expected version.
+     * 
+     * @param id the ID of the product to change
+     * @param expectedVersion the version the client last saw
+     * @param patch the partial change
+     * @return the changed product
+     * @throws com.turkcell.product.service.domain.exception.ResourceNotFoundException if the product is not found
+     * @throws com.turkcell.product.service.domain.exception.PreconditionFailedException if the product is not at the expected version
+     * @throws com.turkcell.product.service.domain.exception.ConflictException if the new name is taken
+     * @throws IllegalArgumentException if the patched product is invalid
+     */
+    Product patchProduct(ProductId id, long expectedVersion, ProductPatch patch);
+}
@@ -0,0 +1,37 @@
+package com.turkcell.product.service.domain.port.usecase;
+
+import com.turkcell.product.service.domain.model.Product;
+
+/**
+ * Outcome of importing a single product in a bulk import.
+ * 
+ * @param product the product that was submitted
+ * @param status whether the product was created or rejected
+ */
+public record ProductImportResult(Product product, Status status) {
+    
+    /**
+     * Enum representing the outcome of a single import.
+     */
+    public enum Status {
+        
+        /**
+         * Product was inserted
+         */
+        CREATED,
+        
+        /**
+         * Product was skipped because its name is already taken
+         */
+        DUPLICATE
+    }
+    
+    /**
+     * Checks if the product was inserted.
+     * 
+     * @return true if the status is CREATED
+     */
+    public boolean isCreated() {
+        return status == Status.CREATED;
+    }
+}
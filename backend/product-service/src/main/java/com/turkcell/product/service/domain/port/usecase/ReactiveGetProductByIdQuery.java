@@ -0,0 +1,19 @@
+package com.turkcell.product.service.domain.port.usecase;
+
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking query port for retrieving a product by its ID.
+ */
+public interface ReactiveGetProductByIdQuery {
+    
+    /**
+     * Retrieves a product by its ID.
+     * 
+     * @param id the product ID
+     * @return the product, or an error with ResourceNotFoundException if it does not exist
+     */
+    Mono<Product> getProductById(ProductId id);
+}
@@ -0,0 +1,29 @@
+package com.turkcell.product.service.domain.port.usecase;
+
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.port.repository.KeysetPage;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking query port for listing products.
+ */
+public interface ReactiveListProductsQuery {
+    
+    /**
+     * Retrieves the page of products following a cursor position.
+     * 
+     * @param cursor the position to continue from
+     * @param size the page size
+     * @return the page of products with the cursor for the next page
+     */
+    Mono<KeysetPage<Product>> listProducts(ProductCursor cursor, int size);
+    
+    /**
+     * Streams the whole catalog ordered by ID, with backpressure.
+     * 
+     * @return all products
+     */
+    Flux<Product> streamProducts();
+}
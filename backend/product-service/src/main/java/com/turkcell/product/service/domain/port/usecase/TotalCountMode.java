@@ -0,0 +1,39 @@
+package com.turkcell.product.service.domain.port.usecase;
+
+import java.util.Arrays;
+
+/**
+ * Enum representing how the total number of products is determined for a listing.
+ */
+public enum TotalCountMode {
+    
+    /**
+     * No total is computed; only whether a next page exists
+     */
+    NONE,
+    
+    /**
+     * Total is estimated from database statistics
+     */
+    APPROXIMATE,
+    
+    /**
+     * Total is counted exactly with an extra COUNT query
+     */
+    EXACT;
+    
+    /**
+     * Resolves a mode from its case-insensitive name.
+     * 
+     * @param value the mode name, e.g. {@code none}
+     * @return the matching TotalCountMode
+     * @throws IllegalArgumentException if the value does not name a mode
+     */
+    public static TotalCountMode fromString(String value) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "Unsupported total mode: " + value + ", expected one of none, approximate, exact"));
+    }
+}
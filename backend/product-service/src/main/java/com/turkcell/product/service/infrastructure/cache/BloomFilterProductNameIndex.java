@@ -0,0 +1,164 @@
+package com.turkcell.product.service.infrastructure.cache;
+
+import com.turkcell.product.service.domain.port.cache.ProductNameIndexPort;
+import com.turkcell.product.service.infrastructure.persistence.repository.ProductJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter implementation of ProductNameIndexPort.
+ * The bit array is sized once from the expected number of names and the target false
+ * positive rate, so memory stays fixed (about 1.2 MB per million names at 1%) no matter
+ * how many names are added. Names are indexed in a normalized form; normalizing can only
+ * merge names, which adds false positives but never false negatives.
+ * Renamed products keep their old name in the filter until the next restart; that only
+ * costs an occasional extra database check.
+ */
+@Component
+public class BloomFilterProductNameIndex implements ProductNameIndexPort {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BloomFilterProductNameIndex.class);
+    
+    private final ProductJdbcRepository jdbcRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final Counter definitelyAbsent;
+    private final Counter possiblyPresent;
+    
+    private volatile boolean ready;
+    
+    public BloomFilterProductNameIndex(
+            ProductJdbcRepository jdbcRepository,
+            @Value("${product.name-index.expected-names:1000000}") long expectedNames,
+            @Value("${product.name-index.false-positive-rate:0.01}") double falsePositiveRate,
+            MeterRegistry meterRegistry) {
+        if (expectedNames <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Name index needs positive expected names and a false positive rate in (0, 1)");
+        }
+        this.jdbcRepository = jdbcRepository;
+        
+        long optimalBits = (long) Math.ceil(-expectedNames * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact((optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedNames * Math.log(2)));
+        
+        this.definitelyAbsent = Counter.builder("product.name-index.checks")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.possiblyPresent = Counter.builder("product.name-index.checks")
+                .tag("result", "maybe")
+                .register(meterRegistry);
+        Gauge.builder("product.name-index.fill-ratio", this, BloomFilterProductNameIndex::fillRatio)
+                .description("Share of set bits; the false positive rate is roughly this value to the power of the hash count")
+                .register(meterRegistry);
+        
+        logger.info("Name index sized for {} names at {} false positive rate: {} KB, {} hashes", 
+                   expectedNames, falsePositiveRate, bitCount / 8 / 1024, hashCount);
+    }
+    
+    /**
+     * Loads all stored names once the application is up.
+     * Names written meanwhile are added by the write path, so nothing is lost while loading.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.nanoTime();
+        long[] loaded = {0};
+        try {
+            jdbcRepository.forEachName(name -> {
+                add(name);
+                loaded[0]++;
+            });
+            ready = true;
+            logger.info("Name index built with {} names in {} ms", loaded[0], (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            // Stay not ready: every check then falls back to the database
+            logger.error("Failed to build name index, uniqueness checks will use the database", e);
+        }
+    }
+    
+    @Override
+    public boolean mightContain(String name) {
+        if (!ready) {
+            return true;
+        }
+        
+        long hash = hash(normalize(name));
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                definitelyAbsent.increment();
+                return false;
+            }
+        }
+        possiblyPresent.increment();
+        return true;
+    }
+    
+    @Override
+    public void add(String name) {
+        long hash = hash(normalize(name));
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+    
+    private double fillRatio() {
+        long set = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            set += Long.bitCount(bits.get(i));
+        }
+        return (double) set / bitCount;
+    }
+    
+    private static String normalize(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units of the name.
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xFF)) * 0x100000001B3L;
+            hash = (hash ^ (c >>> 8)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+    
+    /**
+     * MurmurHash3 finalizer, spreading the FNV hash over all 64 bits.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB93FE1A85B53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
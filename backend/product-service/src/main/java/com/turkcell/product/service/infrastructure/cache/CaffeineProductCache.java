@@ -0,0 +1,134 @@
+package com.turkcell.product.service.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.port.cache.ProductCachePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Caffeine implementation of ProductCachePort.
+ * Existing and missing products live in separate bounded caches, so a scan of random IDs
+ * can only displace other negative entries, never cached products. A cached product saves
+ * loading and mapping the row; the version check on each read is a primary key lookup.
+ */
+@Component
+public class CaffeineProductCache implements ProductCachePort {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CaffeineProductCache.class);
+    
+    private final Cache<ProductId, Product> products;
+    private final Cache<ProductId, Boolean> missing;
+    
+    public CaffeineProductCache(
+            @Value("${product.cache.maximum-size:10000}") long maximumSize,
+            @Value("${product.cache.ttl:PT10M}") Duration ttl,
+            @Value("${product.cache.negative-maximum-size:100000}") long negativeMaximumSize,
+            @Value("${product.cache.negative-ttl:PT30S}") Duration negativeTtl,
+            MeterRegistry meterRegistry) {
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(negativeMaximumSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product.domain.products");
+        CaffeineCacheMetrics.monitor(meterRegistry, missing, "product.domain.missing");
+    }
+    
+    @Override
+    public Optional<Product> get(ProductId id, Function<ProductId, Optional<Long>> versionLoader, 
+                                 Function<ProductId, Optional<Product>> loader) {
+        if (isKnownMissing(id)) {
+            return Optional.empty();
+        }
+        
+        Optional<Product> current = getIfCurrent(id, versionLoader);
+        if (current.isPresent()) {
+            return current;
+        }
+        
+        Product product = products.get(id, key -> loader.apply(key).orElse(null));
+        if (product == null) {
+            missing.put(id, Boolean.TRUE);
+        }
+        return Optional.ofNullable(product);
+    }
+    
+    @Override
+    public Optional<Product> getIfCurrent(ProductId id, Function<ProductId, Optional<Long>> versionLoader) {
+        Product cached = products.getIfPresent(id);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        
+        // An older version can come from a lagging replica; the cached entry is then the newer one
+        Optional<Long> version = versionLoader.apply(id);
+        if (version.isPresent() && version.get() <= cached.getVersion()) {
+            return Optional.of(cached);
+        }
+        
+        // Changed or deleted elsewhere; only drop the entry that was checked, not a newer one put meanwhile
+        products.asMap().remove(id, cached);
+        logger.trace("Evicted outdated product {} at version {}", id, cached.getVersion());
+        return Optional.empty();
+    }
+    
+    @Override
+    public boolean isKnownMissing(ProductId id) {
+        return missing.getIfPresent(id) != null;
+    }
+    
+    @Override
+    public void putAfterCommit(Product product) {
+        afterCommit(() -> {
+            products.asMap().compute(product.getId(), (id, cached) -> 
+                cached != null && cached.getVersion() > product.getVersion() ? cached : product);
+            missing.invalidate(product.getId());
+            logger.trace("Cached product {} at version {}", product.getId(), product.getVersion());
+        });
+    }
+    
+    @Override
+    public void evictAfterCommit(ProductId id) {
+        products.invalidate(id);
+        afterCommit(() -> {
+            products.invalidate(id);
+            logger.trace("Evicted product {} from cache", id);
+        });
+    }
+    
+    /**
+     * Runs the action after the current transaction commits, or right away outside of a transaction.
+     * Nothing is cached on rollback, so uncommitted state never becomes visible through the cache.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.turkcell.product.service.infrastructure.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration for binary (CBOR) content negotiation.
+ * Clients sending {@code Accept: application/cbor} get CBOR, everyone else keeps JSON,
+ * which stays first in the converter list. In CBOR, UUIDs are written as 16-byte binary,
+ * BigDecimal prices as decimal fractions and timestamps as numbers.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+    
+    /**
+     * Creates the CBOR converter from the application's Jackson settings, so modules and
+     * naming match the JSON output. It replaces Spring's default CBOR converter in place.
+     * 
+     * @param builder the Jackson builder customized by Spring Boot
+     * @return the CBOR message converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+    }
+    
+    /**
+     * Marks API responses as varying by Accept, so shared caches keep JSON and CBOR apart.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
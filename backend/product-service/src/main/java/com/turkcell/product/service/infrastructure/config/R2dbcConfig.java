@@ -0,0 +1,64 @@
+package com.turkcell.product.service.infrastructure.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.Duration;
+
+/**
+ * R2DBC configuration for the reactive read stack, active with the "reactive" profile.
+ * Spring Boot's R2DBC auto-configuration is excluded because its transaction manager would
+ * compete with the JPA one for {@code @Transactional}; the reactive transaction manager built
+ * here is therefore only reachable through the TransactionalOperator.
+ */
+@Configuration
+@Profile("reactive")
+public class R2dbcConfig {
+    
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionFactory(
+            @Value("${product.r2dbc.url}") String url,
+            @Value("${product.r2dbc.username:${spring.datasource.username}}") String username,
+            @Value("${product.r2dbc.password:${spring.datasource.password}}") String password,
+            @Value("${product.r2dbc.pool.initial-size:5}") int initialSize,
+            @Value("${product.r2dbc.pool.max-size:20}") int maxSize,
+            @Value("${product.r2dbc.pool.max-idle-time:PT30M}") Duration maxIdleTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options);
+        
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("product-r2dbc")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .build());
+    }
+    
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory reactiveConnectionFactory) {
+        return DatabaseClient.create(reactiveConnectionFactory);
+    }
+    
+    @Bean
+    public TransactionalOperator reactiveReadOnlyTransaction(ConnectionFactory reactiveConnectionFactory) {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        definition.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        return TransactionalOperator.create(new R2dbcTransactionManager(reactiveConnectionFactory), definition);
+    }
+}
@@ -0,0 +1,73 @@
+package com.turkcell.product.service.infrastructure.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.OptionalLong;
+
+/**
+ * Read-your-writes token exchanged with clients.
+ * The token is the primary's WAL position (e.g. {@code 16/B374D848}) after a write committed;
+ * a replica may serve a read carrying the token only once it has replayed up to that position.
+ */
+public final class ConsistencyToken {
+    
+    public static final String HEADER = "X-Consistency-Token";
+    
+    private ConsistencyToken() {
+    }
+    
+    /**
+     * Parses a Postgres LSN in its textual {@code XXXXXXXX/XXXXXXXX} form.
+     * 
+     * @param lsn the textual LSN
+     * @return the LSN as an unsigned 64-bit position, or empty if the text is not a valid LSN
+     */
+    public static OptionalLong parse(String lsn) {
+        if (lsn == null) {
+            return OptionalLong.empty();
+        }
+        int slash = lsn.indexOf('/');
+        if (slash <= 0 || slash == lsn.length() - 1) {
+            return OptionalLong.empty();
+        }
+        try {
+            long high = Long.parseLong(lsn.substring(0, slash).trim(), 16);
+            long low = Long.parseLong(lsn.substring(slash + 1).trim(), 16);
+            if (high > 0xFFFFFFFFL || low > 0xFFFFFFFFL || high < 0 || low < 0) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of((high << 32) | low);
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+    
+    /**
+     * Returns the position required by the token of the current HTTP request, if any.
+     * Malformed tokens are ignored rather than rejected; the read then simply may land on a replica.
+     * 
+     * @return the required WAL position
+     */
+    public static OptionalLong fromCurrentRequest() {
+        HttpServletRequest request = currentRequest();
+        return request != null ? parse(request.getHeader(HEADER)) : OptionalLong.empty();
+    }
+    
+    /**
+     * Returns the servlet attributes of the current HTTP request.
+     * 
+     * @return the request attributes, or null outside of a request
+     */
+    static ServletRequestAttributes currentAttributes() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes : null;
+    }
+    
+    private static HttpServletRequest currentRequest() {
+        ServletRequestAttributes attributes = currentAttributes();
+        return attributes != null ? attributes.getRequest() : null;
+    }
+}
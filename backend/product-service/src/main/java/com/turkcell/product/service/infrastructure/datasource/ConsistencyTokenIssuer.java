@@ -0,0 +1,56 @@
+package com.turkcell.product.service.infrastructure.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+
+/**
+ * Hands out a {@link ConsistencyToken} in the response of every request whose write transaction
+ * committed, so the client can send it back to read its own writes from a replica.
+ */
+public class ConsistencyTokenIssuer implements TransactionExecutionListener {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ConsistencyTokenIssuer.class);
+    
+    private static final String CURRENT_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    
+    private final JdbcTemplate primaryJdbcTemplate;
+    
+    public ConsistencyTokenIssuer(DataSource primaryDataSource) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+    }
+    
+    /**
+     * Sets the token header once an outer write transaction committed.
+     * The WAL position is read after the commit, so it is at or past the commit record.
+     * 
+     * @param transaction the committed transaction
+     * @param commitFailure the commit failure, if any
+     */
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || !transaction.isNewTransaction() || transaction.isReadOnly()) {
+            return;
+        }
+        
+        ServletRequestAttributes attributes = ConsistencyToken.currentAttributes();
+        HttpServletResponse response = attributes != null ? attributes.getResponse() : null;
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        
+        try {
+            String lsn = primaryJdbcTemplate.queryForObject(CURRENT_LSN_SQL, String.class);
+            response.setHeader(ConsistencyToken.HEADER, lsn);
+        } catch (Exception e) {
+            // The write already succeeded; without a token the client just reads with normal replica lag
+            logger.warn("Failed to issue consistency token", e);
+        }
+    }
+}
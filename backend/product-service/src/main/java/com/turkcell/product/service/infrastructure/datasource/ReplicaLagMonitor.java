@@ -0,0 +1,114 @@
+package com.turkcell.product.service.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Periodically measures replication lag of every replica and takes lagging or unreachable
+ * replicas out of the read rotation until they catch up again. Instances that are not in
+ * recovery (promoted, or not a standby at all) and standbys whose WAL receiver is not
+ * streaming are never in rotation.
+ */
+public class ReplicaLagMonitor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    
+    /**
+     * Lag is zero while the WAL receiver is streaming and everything received has been replayed;
+     * otherwise it is the age of the last replayed transaction. A receiver that disconnected keeps
+     * receive and replay positions equal, so equal positions alone do not mean "caught up".
+     * Reading {@code pg_stat_wal_receiver.status} needs superuser or {@code pg_monitor}; without
+     * it the status reads as null and the replica is kept out of rotation.
+     */
+    private static final String LAG_SQL = """
+        SELECT pg_is_in_recovery() AS in_recovery,
+               pg_last_wal_replay_lsn()::text AS replay_lsn,
+               EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') AS streaming,
+               CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                    ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+               END AS lag_seconds,
+               EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) AS replay_age_seconds
+        """;
+    
+    private final List<ReplicaNode> replicas;
+    private final List<JdbcTemplate> templates;
+    private final double maxLagSeconds;
+    
+    public ReplicaLagMonitor(List<ReplicaNode> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.templates = this.replicas.stream()
+                .map(replica -> {
+                    JdbcTemplate template = new JdbcTemplate(replica.getDataSource());
+                    template.setQueryTimeout(Math.max(1, (int) maxLag.toSeconds()));
+                    return template;
+                })
+                .toList();
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        
+        for (ReplicaNode replica : this.replicas) {
+            Gauge.builder("product.datasource.replica.lag", replica, ReplicaNode::getLagSeconds)
+                    .tag("replica", replica.getName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("product.datasource.replica.healthy", replica, node -> node.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+    
+    /**
+     * Refreshes the replication state of all replicas.
+     */
+    @Scheduled(fixedDelayString = "${product.datasource.lag-check-interval:PT2S}")
+    public void checkReplicas() {
+        for (int i = 0; i < replicas.size(); i++) {
+            check(replicas.get(i), templates.get(i));
+        }
+    }
+    
+    private void check(ReplicaNode replica, JdbcTemplate template) {
+        boolean wasHealthy = replica.isHealthy();
+        String reason;
+        try {
+            reason = template.query(LAG_SQL, rs -> {
+                rs.next();
+                if (!rs.getBoolean("in_recovery")) {
+                    // A promoted or standalone instance does not follow the primary at all
+                    replica.update(false, Double.NaN, ReplicaNode.UNKNOWN_LSN);
+                    return "not in recovery";
+                }
+                
+                long replayLsn = ConsistencyToken.parse(rs.getString("replay_lsn")).orElse(ReplicaNode.UNKNOWN_LSN);
+                if (!rs.getBoolean("streaming")) {
+                    // Not receiving WAL: the replica is at least as old as its last replayed transaction
+                    double replayAge = rs.getDouble("replay_age_seconds");
+                    replica.update(false, rs.wasNull() ? Double.NaN : replayAge, replayLsn);
+                    return "WAL receiver not streaming";
+                }
+                
+                double lagSeconds = rs.getDouble("lag_seconds");
+                replica.update(lagSeconds <= maxLagSeconds, lagSeconds, replayLsn);
+                return "lag " + lagSeconds + "s";
+            });
+        } catch (Exception e) {
+            logger.debug("Lag check failed for replica {}", replica.getName(), e);
+            replica.markDown();
+            reason = "unreachable";
+        }
+        
+        if (wasHealthy != replica.isHealthy()) {
+            if (replica.isHealthy()) {
+                logger.info("Replica {} back in rotation", replica.getName());
+            } else {
+                logger.warn("Replica {} removed from rotation ({})", replica.getName(), reason);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.turkcell.product.service.infrastructure.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * A replica taking part in read routing together with its last measured replication state.
+ * State is written by {@link ReplicaLagMonitor} and read on every routing decision.
+ */
+public class ReplicaNode {
+    
+    /**
+     * Replay position reported when the replica's position is not known.
+     */
+    public static final long UNKNOWN_LSN = -1L;
+    
+    private final String name;
+    private final DataSource dataSource;
+    
+    private volatile boolean healthy;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile long replayLsn = UNKNOWN_LSN;
+    
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+    
+    public boolean isHealthy() {
+        return healthy;
+    }
+    
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+    
+    public long getReplayLsn() {
+        return replayLsn;
+    }
+    
+    /**
+     * Checks whether this replica has replayed the WAL up to the given position.
+     * Positions are compared unsigned, as Postgres LSNs are.
+     * 
+     * @param lsn the required WAL position
+     * @return true if the replica has caught up with the position
+     */
+    public boolean hasReplayed(long lsn) {
+        long replayed = replayLsn;
+        return replayed != UNKNOWN_LSN && Long.compareUnsigned(replayed, lsn) >= 0;
+    }
+    
+    void update(boolean healthy, double lagSeconds, long replayLsn) {
+        this.replayLsn = replayLsn;
+        this.lagSeconds = lagSeconds;
+        this.healthy = healthy;
+    }
+    
+    void markDown() {
+        this.healthy = false;
+        this.lagSeconds = Double.NaN;
+    }
+}
@@ -0,0 +1,121 @@
+package com.turkcell.product.service.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Configuration for read-replica routing.
+ * Write transactions use the primary configured under {@code spring.datasource}; read-only
+ * transactions are routed to the replicas under {@code product.datasource.replicas}.
+ * The decision is made lazily, when the transaction first needs a connection, so the
+ * read-only flag of the transaction is known by then.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(prefix = "product.datasource", name = "routing-enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingConfig.class);
+    
+    /**
+     * Creates the primary connection pool from the regular datasource settings.
+     * 
+     * @param properties the spring.datasource properties
+     * @return the primary pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+    
+    /**
+     * Creates the data source for read-only transactions, with one read-only pool per configured replica.
+     * 
+     * @param primaryDataSource the primary pool, used when no replica is eligible
+     * @param properties the routing properties
+     * @param meterRegistry registry for pool and routing metrics
+     * @return the replica routing data source
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource, 
+            ReplicaRoutingProperties properties, 
+            MeterRegistry meterRegistry) {
+        List<ReplicaNode> replicas = properties.replicas().stream()
+                .map(replica -> {
+                    HikariDataSource dataSource = new HikariDataSource();
+                    dataSource.setPoolName("replica-" + replica.name());
+                    dataSource.setJdbcUrl(replica.url());
+                    dataSource.setUsername(replica.username());
+                    dataSource.setPassword(replica.password());
+                    dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+                    dataSource.setReadOnly(true);
+                    // Do not fail startup when a replica is down; the lag monitor keeps it out of rotation
+                    dataSource.setInitializationFailTimeout(-1);
+                    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+                    logger.info("Registered read replica {} ({})", replica.name(), replica.url());
+                    return new ReplicaNode(replica.name(), dataSource);
+                })
+                .toList();
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, meterRegistry);
+    }
+    
+    /**
+     * Creates the data source used by JPA and JDBC: primary for writes, replicas for read-only transactions.
+     * 
+     * @param primaryDataSource the primary pool
+     * @param replicaRoutingDataSource the data source for read-only transactions
+     * @return the lazily routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+    
+    /**
+     * Creates the monitor that keeps lagging replicas out of rotation.
+     * 
+     * @param replicaRoutingDataSource the data source holding the replicas
+     * @param properties the routing properties
+     * @param meterRegistry registry for lag metrics
+     * @return the lag monitor
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaRoutingDataSource replicaRoutingDataSource, 
+            ReplicaRoutingProperties properties, 
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource.getReplicas(), properties.maxLag(), meterRegistry);
+    }
+    
+    /**
+     * Creates the listener that returns consistency tokens after write transactions.
+     * 
+     * @param primaryDataSource the primary pool
+     * @return the token issuer
+     */
+    @Bean
+    public ConsistencyTokenIssuer consistencyTokenIssuer(HikariDataSource primaryDataSource) {
+        return new ConsistencyTokenIssuer(primaryDataSource);
+    }
+}
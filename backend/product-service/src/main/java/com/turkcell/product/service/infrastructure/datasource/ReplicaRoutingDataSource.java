@@ -0,0 +1,89 @@
+package com.turkcell.product.service.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source used for read-only transactions.
+ * Picks a healthy replica round-robin; a replica is only eligible for a request carrying a
+ * {@link ConsistencyToken} once it has replayed up to that token. When no replica qualifies
+ * the primary serves the read.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    
+    private final List<ReplicaNode> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        
+        Map<Object, Object> targets = new HashMap<>();
+        for (ReplicaNode replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        
+        this.replicaReads = Counter.builder("product.datasource.reads")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.primaryReads = Counter.builder("product.datasource.reads")
+                .tag("target", "primary")
+                .register(meterRegistry);
+    }
+    
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+    
+    /**
+     * Chooses the replica for the read that is about to obtain a connection.
+     * 
+     * @return the replica name, or null to fall back to the primary
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        OptionalLong requiredLsn = ConsistencyToken.fromCurrentRequest();
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size == 0 ? 1 : size);
+        
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.isHealthy() && (requiredLsn.isEmpty() || replica.hasReplayed(requiredLsn.getAsLong()))) {
+                replicaReads.increment();
+                return replica.getName();
+            }
+        }
+        
+        logger.debug("No eligible replica for read, using primary (token required: {})", requiredLsn.isPresent());
+        primaryReads.increment();
+        return null;
+    }
+    
+    /**
+     * Closes the replica connection pools; the primary is owned by the application context.
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (ReplicaNode replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
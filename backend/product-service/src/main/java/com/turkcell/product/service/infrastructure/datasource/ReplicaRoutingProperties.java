@@ -0,0 +1,42 @@
+package com.turkcell.product.service.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for routing read-only transactions to Postgres replicas.
+ * 
+ * @param routingEnabled whether read-only transactions may be sent to replicas at all
+ * @param replicas the replicas taking part in the rotation
+ * @param maxLag replay lag after which a replica is taken out of the rotation
+ * @param lagCheckInterval how often replica lag is measured
+ */
+@ConfigurationProperties(prefix = "product.datasource")
+public record ReplicaRoutingProperties(
+    boolean routingEnabled,
+    @DefaultValue List<Replica> replicas,
+    @DefaultValue("PT5S") Duration maxLag,
+    @DefaultValue("PT2S") Duration lagCheckInterval
+) {
+    
+    /**
+     * Connection settings of a single replica.
+     * 
+     * @param name name used in logs, metrics and pool names
+     * @param url JDBC url of the replica
+     * @param username database user
+     * @param password database password
+     * @param maximumPoolSize connection pool size for this replica
+     */
+    public record Replica(
+        String name,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
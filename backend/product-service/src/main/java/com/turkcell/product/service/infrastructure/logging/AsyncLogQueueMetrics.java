@@ -0,0 +1,55 @@
+package com.turkcell.product.service.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Exposes the queues of the asynchronous appenders configured in {@code logback-spring.xml}.
+ * A queue that stays near full means events are being discarded or dropped, i.e. logging
+ * cannot keep up and the log is incomplete rather than the requests slow.
+ */
+@Component
+public class AsyncLogQueueMetrics {
+    
+    private static final org.slf4j.Logger logger = LoggerFactory.getLogger(AsyncLogQueueMetrics.class);
+    
+    public AsyncLogQueueMetrics(MeterRegistry meterRegistry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            logger.debug("Logback is not the logging backend, async log queue metrics disabled");
+            return;
+        }
+        
+        Set<String> registered = new HashSet<>();
+        for (Logger contextLogger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = contextLogger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof AsyncAppenderBase<ILoggingEvent> async && registered.add(async.getName())) {
+                    register(async, meterRegistry);
+                }
+            }
+        }
+        logger.debug("Registered async log queue metrics for appenders {}", registered);
+    }
+    
+    private static void register(AsyncAppenderBase<ILoggingEvent> appender, MeterRegistry meterRegistry) {
+        Gauge.builder("logging.async.queue.size", appender, AsyncAppenderBase::getNumberOfElementsInQueue)
+                .description("Log events waiting to be written")
+                .tag("appender", appender.getName())
+                .register(meterRegistry);
+        Gauge.builder("logging.async.queue.remaining", appender, AsyncAppenderBase::getRemainingCapacity)
+                .description("Free slots in the log event queue")
+                .tag("appender", appender.getName())
+                .register(meterRegistry);
+    }
+}
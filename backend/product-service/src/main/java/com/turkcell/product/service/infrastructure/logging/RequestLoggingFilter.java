@@ -0,0 +1,146 @@
+package com.turkcell.product.service.infrastructure.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one log line per API request, with method, URI, matched endpoint, status and duration.
+ * This replaces the per-layer INFO lines controllers and services used to write for each call,
+ * which are now only logged at DEBUG; handlers add their own outcome, such as row counts, with
+ * {@link #addLogField}. Streaming responses are logged once the async request
+ * completes. The time spent writing the line is recorded as {@code product.request.log},
+ * so the cost of logging on request threads stays visible.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    
+    private static final String API_PATH_PREFIX = "/api/";
+    
+    private static final String LOG_FIELDS_ATTRIBUTE = RequestLoggingFilter.class.getName() + ".fields";
+    
+    private final Timer logTime;
+    
+    public RequestLoggingFilter(MeterRegistry meterRegistry) {
+        this.logTime = Timer.builder("product.request.log")
+                .description("Time request threads spend writing the request log line")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Adds a field to the log line of the given request.
+     * Fields are written after the duration, in the order they were first added.
+     * 
+     * @param request the request being handled
+     * @param name the field name
+     * @param value the field value
+     */
+    public static void addLogField(HttpServletRequest request, String name, Object value) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> fields = (Map<String, Object>) request.getAttribute(LOG_FIELDS_ATTRIBUTE);
+        if (fields == null) {
+            fields = new LinkedHashMap<>();
+            request.setAttribute(LOG_FIELDS_ATTRIBUTE, fields);
+        }
+        fields.put(name, value);
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PATH_PREFIX);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) 
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (isAsyncStarted(request)) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, started));
+            } else {
+                log(request, response, started);
+            }
+        }
+    }
+    
+    private void log(HttpServletRequest request, HttpServletResponse response, long started) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        
+        long loggingStarted = System.nanoTime();
+        logger.info("method={} uri={} endpoint={} status={} durationMs={}{}", 
+                    request.getMethod(), request.getRequestURI(), 
+                    request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), 
+                    response.getStatus(), TimeUnit.NANOSECONDS.toMillis(loggingStarted - started),
+                    logFields(request));
+        logTime.record(System.nanoTime() - loggingStarted, TimeUnit.NANOSECONDS);
+    }
+    
+    private static String logFields(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> fields = (Map<String, Object>) request.getAttribute(LOG_FIELDS_ATTRIBUTE);
+        if (fields == null) {
+            return "";
+        }
+        
+        StringBuilder line = new StringBuilder();
+        fields.forEach((name, value) -> line.append(' ').append(name).append('=').append(value));
+        return line.toString();
+    }
+    
+    /**
+     * Logs an async request once it has completed, whether normally, by timeout or by error.
+     */
+    private final class CompletionListener implements AsyncListener {
+        
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long started;
+        
+        private CompletionListener(HttpServletRequest request, HttpServletResponse response, long started) {
+            this.request = request;
+            this.response = response;
+            this.started = started;
+        }
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log(request, response, started);
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.turkcell.product.service.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback filter letting through a random fraction of events.
+ * Used in {@code logback-spring.xml} for the SQL log, which emits one event per statement
+ * and would otherwise dominate the log volume once enabled under load.
+ */
+public class SamplingFilter extends Filter<ILoggingEvent> {
+    
+    private double rate = 1.0;
+    
+    /**
+     * Sets the fraction of events to keep.
+     * 
+     * @param rate a value between 0 (drop all) and 1 (keep all)
+     */
+    public void setRate(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1, got: " + rate);
+        }
+        this.rate = rate;
+    }
+    
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (rate >= 1) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
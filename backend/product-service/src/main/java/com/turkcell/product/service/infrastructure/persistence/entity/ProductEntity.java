@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Check;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -18,12 +20,15 @@ import java.util.UUID;
 /**
  * JPA Entity representing a Product in the database.
  * This entity maps to the 'products' table and includes auditing capabilities.
+ * The schema and its indexes are owned by the Flyway migrations in {@code db/migration}.
  */
 @Entity
 @Table(
     name = "products",
     uniqueConstraints = @UniqueConstraint(name = "uk_products_name", columnNames = "name")
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ProductEntity.CACHE_REGION)
 @Check(constraints = "price_amount >= 0 AND stock_quantity >= 0")
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -32,6 +37,11 @@ import java.util.UUID;
 @AllArgsConstructor
 public class ProductEntity {
     
+    /**
+     * Second-level cache region holding product entities.
+     */
+    public static final String CACHE_REGION = "products";
+    
     @Id
     private UUID id;
     
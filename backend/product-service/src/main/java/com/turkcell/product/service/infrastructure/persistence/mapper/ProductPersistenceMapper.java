@@ -35,13 +35,28 @@ public interface ProductPersistenceMapper {
     
     /**
      * Maps a ProductEntity to Product domain model.
+     * Stored rows are trusted, so the product is rehydrated without re-running validation.
      * 
      * @param entity the entity
      * @return the domain model
      */
-    @Mapping(target = "id", source = "id", qualifiedByName = "uuidToProductId")
-    @Mapping(target = "price", source = ".", qualifiedByName = "entityToMoney")
-    Product toDomain(ProductEntity entity);
+    default Product toDomain(ProductEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        return Product.rehydrate(
+            uuidToProductId(entity.getId()),
+            entity.getName(),
+            entity.getDescription(),
+            entityToMoney(entity),
+            entity.getStockQuantity(),
+            entity.getStatus(),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getVersion()
+        );
+    }
     
     /**
      * Updates an existing ProductEntity with data from Product domain model.
@@ -0,0 +1,613 @@
+package com.turkcell.product.service.infrastructure.persistence.repository;
+
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductStatus;
+import com.turkcell.product.service.domain.model.ProductView;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ProductField;
+import com.turkcell.product.service.domain.port.repository.ProductFilter;
+import com.turkcell.product.service.domain.port.repository.ProductListState;
+import com.turkcell.product.service.domain.port.repository.ProductSortField;
+import com.turkcell.product.service.infrastructure.persistence.entity.ProductEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC repository for Product queries that need tighter control over the
+ * generated SQL than Spring Data JPA offers.
+ */
+@Repository
+public class ProductJdbcRepository {
+    
+    private static final String PRODUCT_COLUMNS =
+            "id, name, description, price_amount, price_currency, stock_quantity, status, created_at, updated_at, version";
+    
+    /**
+     * Text search configuration; must match the one {@code search_vector} is generated with.
+     */
+    private static final String SEARCH_QUERY = "websearch_to_tsquery('turkish', :query)";
+    
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
+    
+    private static final RowMapper<ProductEntity> ENTITY_ROW_MAPPER = (rs, rowNum) -> {
+        ProductEntity entity = new ProductEntity();
+        entity.setId(rs.getObject("id", UUID.class));
+        entity.setName(rs.getString("name"));
+        entity.setDescription(rs.getString("description"));
+        entity.setPriceAmount(rs.getBigDecimal("price_amount"));
+        entity.setPriceCurrency(rs.getString("price_currency"));
+        entity.setStockQuantity(rs.getInt("stock_quantity"));
+        entity.setStatus(ProductStatus.valueOf(rs.getString("status")));
+        entity.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+        entity.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class).toInstant());
+        entity.setVersion(rs.getLong("version"));
+        return entity;
+    };
+
+    /**
+     * Inserts a new row or applies a version-guarded update in a single statement.
+     * The conflict branch only fires when the stored version still matches the
+     * version the caller read, so a stale write returns no row.
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO products (id, name, description, price_amount, price_currency,
+                                  stock_quantity, status, created_at, updated_at, version)
+            VALUES (:id, :name, :description, :priceAmount, :priceCurrency,
+                    :stockQuantity, :status, :createdAt, :updatedAt, :version)
+            ON CONFLICT (id) DO UPDATE SET
+                name = EXCLUDED.name,
+                description = EXCLUDED.description,
+                price_amount = EXCLUDED.price_amount,
+                price_currency = EXCLUDED.price_currency,
+                stock_quantity = EXCLUDED.stock_quantity,
+                status = EXCLUDED.status,
+                updated_at = EXCLUDED.updated_at,
+                version = products.version + 1
+            WHERE products.version = EXCLUDED.version
+            RETURNING version, created_at, updated_at, (xmax = 0) AS inserted
+            """;
+
+    /**
+     * Inserts a new row, silently skipping it if its ID or name is already taken.
+     */
+    private static final String INSERT_IGNORING_CONFLICTS_SQL = """
+            INSERT INTO products (id, name, description, price_amount, price_currency,
+                                  stock_quantity, status, created_at, updated_at, version)
+            VALUES (:id, :name, :description, :priceAmount, :priceCurrency,
+                    :stockQuantity, :status, :createdAt, :updatedAt, :version)
+            ON CONFLICT DO NOTHING
+            """;
+    
+    private static final int NAME_SCAN_FETCH_SIZE = 10_000;
+    
+    private static final int EXPORT_FETCH_SIZE = 1_000;
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ProductJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Persists the product with a single INSERT ... ON CONFLICT statement.
+     *
+     * @param product the product to persist
+     * @return the stored version and timestamps, or empty if the stored version
+     *         no longer matches the product version
+     */
+    public Optional<WriteResult> upsert(Product product) {
+        List<WriteResult> results = jdbcTemplate.query(UPSERT_SQL, writeParams(product, Instant.now()), (rs, rowNum) -> new WriteResult(
+                rs.getLong("version"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                rs.getObject("updated_at", OffsetDateTime.class).toInstant(),
+                rs.getBoolean("inserted")
+        ));
+
+        return results.stream().findFirst();
+    }
+
+    /**
+     * Inserts the products as one JDBC batch, skipping rows whose ID or name is taken.
+     *
+     * @param products the products to insert
+     * @return the IDs of the rows that were inserted
+     */
+    public Set<UUID> insertAll(List<Product> products) {
+        Instant now = Instant.now();
+        SqlParameterSource[] batch = products.stream()
+                .map(product -> writeParams(product, now))
+                .toArray(SqlParameterSource[]::new);
+        
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_IGNORING_CONFLICTS_SQL, batch);
+        
+        Set<UUID> inserted = new HashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            // Drivers that rewrite batches report SUCCESS_NO_INFO instead of a row count
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                inserted.add(products.get(i).getId().value());
+            }
+        }
+        return inserted;
+    }
+    
+    /**
+     * Finds which of the given names are taken, binding them as a single array parameter.
+     *
+     * @param names the names to look up
+     * @return the names that exist
+     */
+    public Set<String> findExistingNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Set.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("names", arrayOf("text", names.toArray()), Types.ARRAY);
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT name FROM products WHERE name = ANY(:names)", params, String.class));
+    }
+    
+    /**
+     * Finds one product with a plain select, outside of any JPA or second-level cache.
+     *
+     * @param id the product ID
+     * @return the row, or empty if the product does not exist
+     */
+    public Optional<ProductEntity> findById(UUID id) {
+        return jdbcTemplate.query(
+                "SELECT " + PRODUCT_COLUMNS + " FROM products WHERE id = :id", 
+                new MapSqlParameterSource("id", id), ENTITY_ROW_MAPPER)
+                .stream()
+                .findFirst();
+    }
+    
+    /**
+     * Finds the products with the given IDs in one statement, binding them as a single uuid[] parameter.
+     * Rows come back in no particular order; unknown IDs are simply absent.
+     *
+     * @param ids the IDs to look up
+     * @return the matching rows
+     */
+    public List<ProductEntity> findByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", arrayOf("uuid", ids.toArray()), Types.ARRAY);
+        return jdbcTemplate.query(
+                "SELECT " + PRODUCT_COLUMNS + " FROM products WHERE id = ANY(:ids)", params, ENTITY_ROW_MAPPER);
+    }
+    
+    /**
+     * Finds the rows following a keyset cursor.
+     * The row-value comparison on (sort column, id) lets Postgres seek straight
+     * into the matching composite index instead of scanning and discarding
+     * earlier rows, so every page costs the same regardless of its depth.
+     *
+     * @param cursor the position to continue from
+     * @param filter the criteria rows must match
+     * @param limit the maximum number of rows to return
+     * @return the matching rows in cursor order
+     */
+    public List<ProductEntity> findAfter(ProductCursor cursor, ProductFilter filter, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        return jdbcTemplate.query(afterSql(cursor, filter, params), params, ENTITY_ROW_MAPPER);
+    }
+    
+    /**
+     * Builds the query of {@link #findAfter}, adding its parameters other than {@code limit}.
+     *
+     * @param cursor the position to continue from
+     * @param filter the criteria rows must match
+     * @param params the parameters to add to
+     * @return the SQL with named parameters
+     */
+    static String afterSql(ProductCursor cursor, ProductFilter filter, MapSqlParameterSource params) {
+        String column = columnOf(cursor.sortField());
+        String direction = cursor.direction().isAscending() ? "ASC" : "DESC";
+        
+        List<String> conditions = conditions(null, filter, params);
+        if (!cursor.isFirst()) {
+            conditions.add("(" + column + ", id) " + (cursor.direction().isAscending() ? ">" : "<") 
+                    + " (:sortValue, :lastId)");
+            params.addValue("sortValue", toSqlValue(cursor.sortValue()))
+                  .addValue("lastId", cursor.lastId().value());
+        }
+        
+        return "SELECT " + PRODUCT_COLUMNS + " FROM products" + where(conditions)
+                + " ORDER BY " + column + " " + direction + ", id " + direction
+                + " LIMIT :limit";
+    }
+    
+    /**
+     * Finds a page of products matching a filter.
+     *
+     * @param filter the criteria rows must match
+     * @param pageable the pagination information; sort properties must be {@link ProductSortField}s
+     * @param limit the maximum number of rows to return
+     * @return the matching rows in page order
+     * @throws IllegalArgumentException if the pageable sorts by an unsupported property
+     */
+    public List<ProductEntity> findMatching(ProductFilter filter, Pageable pageable, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit)
+                .addValue("offset", pageable.getOffset());
+        return jdbcTemplate.query(matchingSql(filter, pageable.getSort(), params), params, ENTITY_ROW_MAPPER);
+    }
+    
+    /**
+     * Builds the query of {@link #findMatching}, adding its parameters other than {@code limit}
+     * and {@code offset}.
+     *
+     * @param filter the criteria rows must match
+     * @param sort the order; properties must be {@link ProductSortField}s
+     * @param params the parameters to add to
+     * @return the SQL with named parameters
+     * @throws IllegalArgumentException if the sort uses an unsupported property
+     */
+    static String matchingSql(ProductFilter filter, Sort sort, MapSqlParameterSource params) {
+        return "SELECT " + PRODUCT_COLUMNS + " FROM products" 
+                + where(conditions(null, filter, params))
+                + orderBy(sort)
+                + " LIMIT :limit OFFSET :offset";
+    }
+    
+    /**
+     * Finds one product, selecting only the columns backing the given fields.
+     *
+     * @param id the product ID
+     * @param fields the fields to read
+     * @return the projected row if found
+     */
+    public Optional<ProductView> findProjectedById(UUID id, Set<ProductField> fields) {
+        String sql = "SELECT " + selectList(fields) + " FROM products WHERE id = :id";
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("id", id), viewRowMapper(fields))
+                .stream()
+                .findFirst();
+    }
+    
+    /**
+     * Finds a page of products, selecting only the columns backing the given fields.
+     *
+     * @param fields the fields to read
+     * @param filter the criteria rows must match
+     * @param pageable the pagination information; sort properties must be {@link ProductSortField}s
+     * @param limit the maximum number of rows to return
+     * @return the projected rows in page order
+     * @throws IllegalArgumentException if the pageable sorts by an unsupported property
+     */
+    public List<ProductView> findProjected(Set<ProductField> fields, ProductFilter filter, Pageable pageable, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit)
+                .addValue("offset", pageable.getOffset());
+        String sql = "SELECT " + selectList(fields) + " FROM products"
+                + where(conditions(null, filter, params))
+                + orderBy(pageable.getSort())
+                + " LIMIT :limit OFFSET :offset";
+        return jdbcTemplate.query(sql, params, viewRowMapper(fields));
+    }
+    
+    /**
+     * Finds products matching a full-text query, ranked by cover density.
+     * The query is matched against the generated {@code search_vector} column through
+     * its GIN index; the ranking only touches matching rows.
+     *
+     * @param query the search text in web search syntax
+     * @param filter the criteria rows must match as well
+     * @param offset the number of matches to skip
+     * @param limit the maximum number of rows to return
+     * @return the matching rows, most relevant first
+     */
+    public List<ProductEntity> search(String query, ProductFilter filter, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        String sql = "SELECT " + PRODUCT_COLUMNS + " FROM products"
+                + where(conditions(query, filter, params))
+                + " ORDER BY ts_rank_cd(search_vector, " + SEARCH_QUERY + ") DESC, id"
+                + " LIMIT :limit OFFSET :offset";
+        return jdbcTemplate.query(sql, params, ENTITY_ROW_MAPPER);
+    }
+    
+    /**
+     * Counts the products matching a filter and an optional full-text query.
+     *
+     * @param query the search text in web search syntax, or null
+     * @param filter the criteria rows must match
+     * @return the number of matches
+     */
+    public long countMatching(String query, ProductFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM products" + where(conditions(query, filter, params)), params, Long.class);
+        return count != null ? count : 0L;
+    }
+    
+    /**
+     * Reads the planner's row estimate for a filter and an optional full-text query
+     * without executing the query.
+     *
+     * @param query the search text in web search syntax, or null
+     * @param filter the criteria rows must match
+     * @return the estimated number of matches, or -1 if the plan carries no estimate
+     */
+    public long estimateMatching(String query, ProductFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN (FORMAT JSON) SELECT 1 FROM products" + where(conditions(query, filter, params)), 
+                params, String.class);
+        Matcher matcher = PLAN_ROWS.matcher(plan != null ? plan : "");
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1L;
+    }
+    
+    /**
+     * Reads only the version column of several products in one statement.
+     *
+     * @param ids the product IDs
+     * @return the version of every existing product, keyed by ID
+     */
+    public Map<UUID, Long> findVersionsByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", arrayOf("uuid", ids.toArray()), Types.ARRAY);
+        Map<UUID, Long> versions = new HashMap<>();
+        jdbcTemplate.query("SELECT id, version FROM products WHERE id = ANY(:ids)", params, 
+                (RowCallbackHandler) rs -> versions.put(rs.getObject("id", UUID.class), rs.getLong("version")));
+        return versions;
+    }
+    
+    /**
+     * Reads only the version column of a product.
+     *
+     * @param id the product ID
+     * @return the version, or empty if the product does not exist
+     */
+    public Optional<Long> findVersionById(UUID id) {
+        return jdbcTemplate.queryForList(
+                "SELECT version FROM products WHERE id = :id", new MapSqlParameterSource("id", id), Long.class)
+                .stream()
+                .findFirst();
+    }
+    
+    /**
+     * Reads the newest updated_at, answered from the (updated_at, id) index, together with
+     * the deletion counter that a trigger keeps in product_list_state.
+     *
+     * @return the list state
+     */
+    public ProductListState findListState() {
+        return jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT (SELECT max(updated_at) FROM products) AS last_modified, deletions"
+                        + " FROM product_list_state",
+                (rs, rowNum) -> {
+                    Timestamp lastModified = rs.getTimestamp("last_modified");
+                    return new ProductListState(lastModified != null ? lastModified.toInstant() : null,
+                                                rs.getLong("deletions"));
+                });
+    }
+    
+    /**
+     * Streams every product row to the given action.
+     * Rows come from a server-side cursor in batches of the fetch size, which requires
+     * the surrounding transaction; nothing is kept after a row has been handed over.
+     *
+     * @param action receives each row
+     */
+    @Transactional(readOnly = true)
+    public void forEachProduct(Consumer<ProductEntity> action) {
+        jdbcTemplate.getJdbcTemplate().query(con -> {
+            PreparedStatement statement = con.prepareStatement("SELECT " + PRODUCT_COLUMNS + " FROM products");
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> action.accept(ENTITY_ROW_MAPPER.mapRow(rs, 0)));
+    }
+    
+    /**
+     * Streams every stored product name to the given action.
+     * Rows are fetched in batches inside a read-only transaction, so memory use does not grow with the table.
+     *
+     * @param action receives each name
+     */
+    @Transactional(readOnly = true)
+    public void forEachName(Consumer<String> action) {
+        jdbcTemplate.getJdbcTemplate().query(con -> {
+            PreparedStatement statement = con.prepareStatement("SELECT name FROM products");
+            statement.setFetchSize(NAME_SCAN_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> action.accept(rs.getString(1)));
+    }
+    
+    /**
+     * Reads the planner's row estimate for the products table.
+     *
+     * @return the estimated row count, or a negative value if the table has never been analyzed
+     */
+    public long estimateRowCount() {
+        Long estimate = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = 'products'::regclass", Long.class);
+        return estimate != null ? estimate : -1L;
+    }
+    
+    /**
+     * Resolves the column backing a sort field.
+     *
+     * @param sortField the sort field
+     * @return the column name
+     */
+    static String columnOf(ProductSortField sortField) {
+        return switch (sortField) {
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case NAME -> "name";
+            case PRICE -> "price_amount";
+        };
+    }
+    
+    /**
+     * Resolves the column backing a projectable field.
+     *
+     * @param field the field
+     * @return the column name
+     */
+    static String columnOf(ProductField field) {
+        return switch (field) {
+            case ID -> "id";
+            case NAME -> "name";
+            case DESCRIPTION -> "description";
+            case PRICE_AMOUNT -> "price_amount";
+            case PRICE_CURRENCY -> "price_currency";
+            case STOCK_QUANTITY -> "stock_quantity";
+            case STATUS -> "status";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case VERSION -> "version";
+        };
+    }
+    
+    private static String selectList(Set<ProductField> fields) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be selected");
+        }
+        return fields.stream().map(ProductJdbcRepository::columnOf).collect(Collectors.joining(", "));
+    }
+    
+    /**
+     * Builds the SQL conditions of a filter and an optional full-text query.
+     * Each condition is a plain comparison on an indexed column, so the planner can
+     * combine it with the (status, sort column, id), (price_amount, id), partial
+     * in-stock and search indexes instead of filtering rows after loading them.
+     */
+    private static List<String> conditions(String query, ProductFilter filter, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>(5);
+        if (query != null) {
+            conditions.add("search_vector @@ " + SEARCH_QUERY);
+            params.addValue("query", query);
+        }
+        if (filter.status() != null) {
+            conditions.add("status = :status");
+            params.addValue("status", filter.status().name());
+        }
+        if (filter.minPrice() != null) {
+            conditions.add("price_amount >= :minPrice");
+            params.addValue("minPrice", filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            conditions.add("price_amount <= :maxPrice");
+            params.addValue("maxPrice", filter.maxPrice());
+        }
+        if (filter.inStock() != null) {
+            conditions.add(filter.inStock() ? "stock_quantity > 0" : "stock_quantity = 0");
+        }
+        return conditions;
+    }
+    
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+    
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return " ORDER BY id";
+        }
+        
+        StringBuilder clause = new StringBuilder(" ORDER BY ");
+        for (Sort.Order order : sort) {
+            ProductSortField sortField = ProductSortField.fromProperty(order.getProperty())
+                    .orElseThrow(() -> new IllegalArgumentException("Unsupported sort field: " + order.getProperty()));
+            clause.append(columnOf(sortField)).append(order.isAscending() ? " ASC" : " DESC").append(", ");
+        }
+        // Tie-break on id so that equal sort keys page deterministically
+        Sort.Order last = sort.toList().get(sort.toList().size() - 1);
+        return clause.append("id").append(last.isAscending() ? " ASC" : " DESC").toString();
+    }
+    
+    private static RowMapper<ProductView> viewRowMapper(Set<ProductField> fields) {
+        return (rs, rowNum) -> new ProductView(
+                fields.contains(ProductField.ID) ? new ProductId(rs.getObject("id", UUID.class)) : null,
+                fields.contains(ProductField.NAME) ? rs.getString("name") : null,
+                fields.contains(ProductField.DESCRIPTION) ? rs.getString("description") : null,
+                fields.contains(ProductField.PRICE_AMOUNT) ? rs.getBigDecimal("price_amount") : null,
+                fields.contains(ProductField.PRICE_CURRENCY) ? rs.getString("price_currency") : null,
+                fields.contains(ProductField.STOCK_QUANTITY) ? rs.getObject("stock_quantity", Integer.class) : null,
+                fields.contains(ProductField.STATUS) ? ProductStatus.valueOf(rs.getString("status")) : null,
+                fields.contains(ProductField.CREATED_AT) ? rs.getObject("created_at", OffsetDateTime.class).toInstant() : null,
+                fields.contains(ProductField.UPDATED_AT) ? rs.getObject("updated_at", OffsetDateTime.class).toInstant() : null,
+                fields.contains(ProductField.VERSION) ? rs.getObject("version", Long.class) : null
+        );
+    }
+    
+    private static MapSqlParameterSource writeParams(Product product, Instant updatedAt) {
+        return new MapSqlParameterSource()
+                .addValue("id", product.getId().value())
+                .addValue("name", product.getName())
+                .addValue("description", product.getDescription())
+                .addValue("priceAmount", product.getPrice().amount())
+                .addValue("priceCurrency", product.getPrice().currency())
+                .addValue("stockQuantity", product.getStockQuantity())
+                .addValue("status", product.getStatus().name())
+                .addValue("createdAt", Timestamp.from(product.getCreatedAt()))
+                .addValue("updatedAt", Timestamp.from(updatedAt))
+                .addValue("version", product.getVersion());
+    }
+    
+    /**
+     * Wraps values into a SQL array created on the statement's own connection,
+     * so a whole collection binds as one {@code = ANY(?)} parameter.
+     */
+    private static AbstractSqlTypeValue arrayOf(String elementType, Object[] values) {
+        return new AbstractSqlTypeValue() {
+            @Override
+            protected Object createTypeValue(Connection connection, int sqlType, String typeName) 
+                    throws SQLException {
+                return connection.createArrayOf(elementType, values);
+            }
+        };
+    }
+    
+    private static Object toSqlValue(Object value) {
+        return value instanceof Instant instant ? Timestamp.from(instant) : value;
+    }
+    
+    /**
+     * Database-assigned state returned by a write.
+     *
+     * @param version the stored version
+     * @param createdAt the stored creation timestamp
+     * @param updatedAt the stored update timestamp
+     * @param inserted whether the write inserted a new row rather than updating one
+     */
+    public record WriteResult(long version, Instant createdAt, Instant updatedAt, boolean inserted) {
+    }
+}
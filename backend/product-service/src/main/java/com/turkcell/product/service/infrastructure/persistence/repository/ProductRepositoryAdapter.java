@@ -2,16 +2,36 @@ package com.turkcell.product.service.infrastructure.persistence.repository;
 
 import com.turkcell.product.service.domain.model.Product;
 import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductView;
+import com.turkcell.product.service.domain.port.repository.KeysetPage;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ProductField;
+import com.turkcell.product.service.domain.port.repository.ProductFilter;
+import com.turkcell.product.service.domain.port.repository.ProductListState;
 import com.turkcell.product.service.domain.port.repository.ProductRepositoryPort;
 import com.turkcell.product.service.infrastructure.persistence.entity.ProductEntity;
 import com.turkcell.product.service.infrastructure.persistence.mapper.ProductPersistenceMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Adapter implementation of ProductRepositoryPort using Spring Data JPA.
@@ -23,12 +43,25 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
     private static final Logger logger = LoggerFactory.getLogger(ProductRepositoryAdapter.class);
     
     private final SpringDataProductRepository springDataRepository;
+    private final ProductJdbcRepository jdbcRepository;
     private final ProductPersistenceMapper mapper;
+    private final ProductSecondLevelCacheEvictor cacheEvictor;
+    private final Timer insertWrites;
+    private final Timer updateWrites;
+    private final Timer conflictedWrites;
     
     public ProductRepositoryAdapter(SpringDataProductRepository springDataRepository, 
-                                   ProductPersistenceMapper mapper) {
+                                   ProductJdbcRepository jdbcRepository,
+                                   ProductPersistenceMapper mapper,
+                                   ProductSecondLevelCacheEvictor cacheEvictor,
+                                   MeterRegistry meterRegistry) {
         this.springDataRepository = springDataRepository;
+        this.jdbcRepository = jdbcRepository;
         this.mapper = mapper;
+        this.cacheEvictor = cacheEvictor;
+        this.insertWrites = writeTimer("insert", meterRegistry);
+        this.updateWrites = writeTimer("update", meterRegistry);
+        this.conflictedWrites = writeTimer("conflict", meterRegistry);
     }
     
     @Override
@@ -36,30 +69,56 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
         logger.debug("Saving product with ID: {}", product.getId());
         
         try {
-            ProductEntity entity;
+            Timer.Sample sample = Timer.start();
+            Optional<ProductJdbcRepository.WriteResult> written = jdbcRepository.upsert(product);
+            sample.stop(written.map(result -> result.inserted() ? insertWrites : updateWrites).orElse(conflictedWrites));
             
-            if (existsById(product.getId())) {
-                // Update existing entity
-                entity = springDataRepository.findById(product.getId().value())
-                    .orElseThrow(() -> new IllegalStateException("Product entity not found during update"));
-                mapper.updateEntity(product, entity);
-            } else {
-                // Create new entity
-                entity = mapper.toEntity(product);
-            }
+            ProductJdbcRepository.WriteResult result = written
+                .orElseThrow(() -> new OptimisticLockingFailureException(
+                    "Product " + product.getId() + " was modified concurrently, expected version " + product.getVersion()));
+            cacheEvictor.evictWritten(List.of(product.getId().value()));
             
-            ProductEntity savedEntity = springDataRepository.save(entity);
-            Product savedProduct = mapper.toDomain(savedEntity);
+            // Already validated before the write, only the stored timestamps and version are new
+            Product savedProduct = Product.rehydrate(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getStockQuantity(),
+                product.getStatus(),
+                result.createdAt(),
+                result.updatedAt(),
+                result.version()
+            );
             
-            logger.debug("Successfully saved product with ID: {}", savedProduct.getId());
+            logger.debug("Successfully saved product with ID: {} at version {}", savedProduct.getId(), savedProduct.getVersion());
             return savedProduct;
             
+        } catch (OptimisticLockingFailureException | DuplicateKeyException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Failed to save product with ID: {}", product.getId(), e);
             throw new RuntimeException("Failed to save product", e);
         }
     }
     
+    @Override
+    public Set<ProductId> insertAll(List<Product> products) {
+        logger.debug("Inserting batch of {} products", products.size());
+        
+        try {
+            Set<UUID> inserted = jdbcRepository.insertAll(products);
+            cacheEvictor.evictWritten(inserted);
+            
+            logger.debug("Inserted {} of {} products", inserted.size(), products.size());
+            return inserted.stream().map(ProductId::new).collect(Collectors.toSet());
+            
+        } catch (Exception e) {
+            logger.error("Failed to insert batch of {} products", products.size(), e);
+            throw new RuntimeException("Failed to insert products", e);
+        }
+    }
+    
     @Override
     public Optional<Product> findById(ProductId id) {
         logger.debug("Finding product by ID: {}", id);
@@ -82,6 +141,19 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
         }
     }
     
+    @Override
+    public Optional<ProductView> findById(ProductId id, Set<ProductField> fields) {
+        logger.debug("Finding product by ID: {} with fields: {}", id, fields);
+        
+        try {
+            return jdbcRepository.findProjectedById(id.value(), fields);
+            
+        } catch (Exception e) {
+            logger.error("Failed to find product by ID: {}", id, e);
+            throw new RuntimeException("Failed to find product", e);
+        }
+    }
+    
     @Override
     public Page<Product> findAll(Pageable pageable) {
         logger.debug("Finding all products with pagination: page={}, size={}", 
@@ -101,6 +173,121 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
         }
     }
     
+    @Override
+    public Slice<Product> findAllSlice(ProductFilter filter, Pageable pageable) {
+        logger.debug("Finding product slice: page={}, size={}, filter={}", 
+                    pageable.getPageNumber(), pageable.getPageSize(), filter);
+        
+        try {
+            Slice<Product> productSlice;
+            if (filter.isEmpty()) {
+                productSlice = springDataRepository.findAllBy(pageable).map(mapper::toDomain);
+            } else {
+                // Filtered listings run as plain SQL
+                List<ProductEntity> entities = jdbcRepository.findMatching(filter, pageable, pageable.getPageSize() + 1);
+                productSlice = toSlice(entities, pageable);
+            }
+            logger.debug("Found {} products, hasNext={}", 
+                        productSlice.getNumberOfElements(), productSlice.hasNext());
+            return productSlice;
+            
+        } catch (Exception e) {
+            logger.error("Failed to find product slice", e);
+            throw new RuntimeException("Failed to find products", e);
+        }
+    }
+    
+    @Override
+    public Slice<Product> search(String query, ProductFilter filter, Pageable pageable) {
+        logger.debug("Searching products: query={}, filter={}, page={}, size={}", 
+                    query, filter, pageable.getPageNumber(), pageable.getPageSize());
+        
+        try {
+            // Fetch one extra row to learn whether another slice follows
+            List<ProductEntity> entities = jdbcRepository.search(
+                query, filter, pageable.getOffset(), pageable.getPageSize() + 1);
+            Slice<Product> products = toSlice(entities, pageable);
+            
+            logger.debug("Found {} matching products, hasNext={}", products.getNumberOfElements(), products.hasNext());
+            return products;
+            
+        } catch (Exception e) {
+            logger.error("Failed to search products", e);
+            throw new RuntimeException("Failed to search products", e);
+        }
+    }
+    
+    @Override
+    public long countMatching(String query, ProductFilter filter) {
+        logger.debug("Counting products matching: query={}, filter={}", query, filter);
+        
+        try {
+            return jdbcRepository.countMatching(query, filter);
+            
+        } catch (Exception e) {
+            logger.error("Failed to count matching products", e);
+            throw new RuntimeException("Failed to count products", e);
+        }
+    }
+    
+    @Override
+    public long estimateMatching(String query, ProductFilter filter) {
+        logger.debug("Estimating products matching: query={}, filter={}", query, filter);
+        
+        try {
+            long estimate = jdbcRepository.estimateMatching(query, filter);
+            return estimate >= 0 ? estimate : jdbcRepository.countMatching(query, filter);
+            
+        } catch (Exception e) {
+            logger.error("Failed to estimate matching products", e);
+            throw new RuntimeException("Failed to count products", e);
+        }
+    }
+    
+    @Override
+    public Slice<ProductView> findAllSlice(Set<ProductField> fields, ProductFilter filter, Pageable pageable) {
+        logger.debug("Finding projected product slice: page={}, size={}, fields={}, filter={}", 
+                    pageable.getPageNumber(), pageable.getPageSize(), fields, filter);
+        
+        try {
+            // Fetch one extra row to learn whether another slice follows
+            List<ProductView> views = jdbcRepository.findProjected(fields, filter, pageable, pageable.getPageSize() + 1);
+            boolean hasNext = views.size() > pageable.getPageSize();
+            List<ProductView> content = hasNext ? views.subList(0, pageable.getPageSize()) : views;
+            
+            logger.debug("Found {} projected products, hasNext={}", content.size(), hasNext);
+            return new SliceImpl<>(content, pageable, hasNext);
+            
+        } catch (Exception e) {
+            logger.error("Failed to find projected product slice", e);
+            throw new RuntimeException("Failed to find products", e);
+        }
+    }
+    
+    @Override
+    public KeysetPage<Product> findAll(ProductCursor cursor, ProductFilter filter, int limit) {
+        logger.debug("Finding products after cursor: sort={} {}, lastId={}, filter={}, limit={}", 
+                    cursor.sortField(), cursor.direction(), cursor.lastId(), filter, limit);
+        
+        try {
+            // Fetch one extra row to learn whether another page follows
+            List<ProductEntity> entities = jdbcRepository.findAfter(cursor, filter, limit + 1);
+            boolean hasNext = entities.size() > limit;
+            List<Product> products = entities.stream()
+                .limit(limit)
+                .map(mapper::toDomain)
+                .toList();
+            
+            ProductCursor nextCursor = hasNext ? cursor.after(products.get(products.size() - 1)) : null;
+            logger.debug("Found {} products after cursor, hasNext={}", products.size(), hasNext);
+            return new KeysetPage<>(products, nextCursor);
+            
+        } catch (Exception e) {
+            logger.error("Failed to find products after cursor", e);
+            throw new RuntimeException("Failed to find products", e);
+        }
+    }
+    
     @Override
     public void deleteById(ProductId id) {
         logger.debug("Deleting product by ID: {}", id);
@@ -130,6 +317,21 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
         }
     }
     
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        logger.debug("Checking which of {} product names exist", names.size());
+        
+        try {
+            Set<String> existing = jdbcRepository.findExistingNames(names);
+            logger.debug("{} of {} product names already exist", existing.size(), names.size());
+            return existing;
+            
+        } catch (Exception e) {
+            logger.error("Failed to check existing product names", e);
+            throw new RuntimeException("Failed to check product existence", e);
+        }
+    }
+    
     @Override
     public boolean existsByNameAndIdNot(String name, ProductId excludeId) {
         logger.debug("Checking if product exists by name '{}' excluding ID: {}", name, excludeId);
@@ -174,4 +376,128 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
             throw new RuntimeException("Failed to count products", e);
         }
     }
+    
+    @Override
+    public long estimateCount() {
+        logger.debug("Estimating total products");
+        
+        try {
+            long estimate = jdbcRepository.estimateRowCount();
+            if (estimate < 0) {
+                // Table has not been analyzed yet, statistics carry no estimate
+                logger.debug("No planner statistics for products, falling back to exact count");
+                return springDataRepository.count();
+            }
+            logger.debug("Estimated product count: {}", estimate);
+            return estimate;
+            
+        } catch (Exception e) {
+            logger.error("Failed to estimate product count", e);
+            throw new RuntimeException("Failed to count products", e);
+        }
+    }
+    
+    @Override
+    public List<Product> findAllByIds(Collection<ProductId> ids) {
+        logger.debug("Finding {} products by ID", ids.size());
+        
+        try {
+            List<Product> products = jdbcRepository.findByIds(ids.stream().map(ProductId::value).toList())
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+            logger.debug("Found {} of {} products", products.size(), ids.size());
+            return products;
+            
+        } catch (Exception e) {
+            logger.error("Failed to find {} products by ID", ids.size(), e);
+            throw new RuntimeException("Failed to find products", e);
+        }
+    }
+    
+    @Override
+    public Optional<Product> findCurrentById(ProductId id) {
+        logger.debug("Finding current state of product: {}", id);
+        
+        try {
+            // Plain JDBC: neither the persistence context nor the second-level cache can answer it
+            return jdbcRepository.findById(id.value()).map(mapper::toDomain);
+            
+        } catch (Exception e) {
+            logger.error("Failed to find current state of product: {}", id, e);
+            throw new RuntimeException("Failed to find product", e);
+        }
+    }
+    
+    @Override
+    public Map<ProductId, Long> findVersionsByIds(Collection<ProductId> ids) {
+        logger.debug("Finding versions of {} products", ids.size());
+        
+        try {
+            Map<ProductId, Long> versions = new HashMap<>();
+            jdbcRepository.findVersionsByIds(ids.stream().map(ProductId::value).toList())
+                .forEach((id, version) -> versions.put(new ProductId(id), version));
+            return versions;
+            
+        } catch (Exception e) {
+            logger.error("Failed to find versions of {} products", ids.size(), e);
+            throw new RuntimeException("Failed to find product versions", e);
+        }
+    }
+    
+    @Override
+    public Optional<Long> findVersionById(ProductId id) {
+        logger.debug("Finding version of product: {}", id);
+        
+        try {
+            return jdbcRepository.findVersionById(id.value());
+            
+        } catch (Exception e) {
+            logger.error("Failed to find version of product: {}", id, e);
+            throw new RuntimeException("Failed to find product version", e);
+        }
+    }
+    
+    @Override
+    public ProductListState findListState() {
+        logger.debug("Finding list state of products");
+        
+        try {
+            return jdbcRepository.findListState();
+            
+        } catch (Exception e) {
+            logger.error("Failed to find list state of products", e);
+            throw new RuntimeException("Failed to find list state", e);
+        }
+    }
+    
+    @Override
+    public void forEachProduct(Consumer<Product> action) {
+        logger.debug("Streaming all products");
+        
+        jdbcRepository.forEachProduct(entity -> action.accept(mapper.toDomain(entity)));
+    }
+    
+    /**
+     * Turns rows read with one extra row into a slice; the extra row only signals a next slice.
+     */
+    private Slice<Product> toSlice(List<ProductEntity> entities, Pageable pageable) {
+        boolean hasNext = entities.size() > pageable.getPageSize();
+        List<Product> products = entities.stream()
+            .limit(pageable.getPageSize())
+            .map(mapper::toDomain)
+            .toList();
+        return new SliceImpl<>(products, pageable, hasNext);
+    }
+    
+    /**
+     * Each save is one upsert statement, so the count of these timers is the number of write
+     * statements and round trips; compare it with the saves requested to see statements per write.
+     */
+    private static Timer writeTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("product.repository.write.statements")
+                .description("Upsert statements issued by product saves, one database round trip each")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,63 @@
+package com.turkcell.product.service.infrastructure.persistence.repository;
+
+import com.turkcell.product.service.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the Hibernate second-level cache consistent with writes that bypass Hibernate.
+ * Hibernate invalidates its caches for writes it performs itself (e.g. deletes), but the
+ * JDBC upsert and batch insert paths are invisible to it, so they evict explicitly.
+ * Only the written entities are evicted; product queries are not cached.
+ * The cache is local to each instance, so writes made by other instances are only seen
+ * once the entry expires (see the {@code products} region in {@code application.conf}).
+ */
+@Component
+public class ProductSecondLevelCacheEvictor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProductSecondLevelCacheEvictor.class);
+    
+    private final Cache cache;
+    
+    public ProductSecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+    
+    /**
+     * Evicts the given products.
+     * Eviction happens immediately and again after the surrounding transaction commits, so a
+     * concurrent reader that loaded the old row before the commit cannot leave it cached.
+     * 
+     * @param ids the IDs of the written products
+     */
+    public void evictWritten(Collection<UUID> ids) {
+        List<UUID> written = List.copyOf(ids);
+        evict(written);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(written);
+                }
+            });
+        }
+    }
+    
+    private void evict(List<UUID> ids) {
+        for (UUID id : ids) {
+            cache.evictEntityData(ProductEntity.class, id);
+        }
+        logger.trace("Evicted {} products from the second-level cache", ids.size());
+    }
+}
@@ -0,0 +1,135 @@
+package com.turkcell.product.service.infrastructure.persistence.repository;
+
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductStatus;
+import com.turkcell.product.service.domain.port.repository.KeysetPage;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ReactiveProductRepositoryPort;
+import com.turkcell.product.service.infrastructure.persistence.entity.ProductEntity;
+import com.turkcell.product.service.infrastructure.persistence.mapper.ProductPersistenceMapper;
+import io.r2dbc.spi.Readable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * R2DBC adapter for ReactiveProductRepositoryPort, active with the "reactive" profile.
+ * Runs the same SQL as the JDBC read paths over a non-blocking driver, so a request
+ * only holds a connection while rows are flowing rather than a thread for its whole duration.
+ */
+@Repository
+@Profile("reactive")
+public class R2dbcProductRepositoryAdapter implements ReactiveProductRepositoryPort {
+    
+    private static final Logger logger = LoggerFactory.getLogger(R2dbcProductRepositoryAdapter.class);
+    
+    private static final String PRODUCT_COLUMNS =
+            "id, name, description, price_amount, price_currency, stock_quantity, status, created_at, updated_at, version";
+    
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator readOnlyTransaction;
+    private final ProductPersistenceMapper mapper;
+    private final int streamFetchSize;
+    
+    public R2dbcProductRepositoryAdapter(DatabaseClient databaseClient,
+                                         TransactionalOperator reactiveReadOnlyTransaction,
+                                         ProductPersistenceMapper mapper,
+                                         @Value("${product.r2dbc.stream-fetch-size:500}") int streamFetchSize) {
+        this.databaseClient = databaseClient;
+        this.readOnlyTransaction = reactiveReadOnlyTransaction;
+        this.mapper = mapper;
+        this.streamFetchSize = streamFetchSize;
+    }
+    
+    @Override
+    public Mono<Product> findById(ProductId id) {
+        logger.debug("Finding product by ID: {}", id);
+        
+        return databaseClient.sql("SELECT " + PRODUCT_COLUMNS + " FROM products WHERE id = :id")
+                .bind("id", id.value())
+                .map(R2dbcProductRepositoryAdapter::toEntity)
+                .one()
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Mono<KeysetPage<Product>> findAll(ProductCursor cursor, int limit) {
+        logger.debug("Finding products after cursor: sort={} {}, lastId={}, limit={}", 
+                    cursor.sortField(), cursor.direction(), cursor.lastId(), limit);
+        
+        String column = ProductJdbcRepository.columnOf(cursor.sortField());
+        String direction = cursor.direction().isAscending() ? "ASC" : "DESC";
+        
+        StringBuilder sql = new StringBuilder("SELECT ").append(PRODUCT_COLUMNS).append(" FROM products");
+        if (!cursor.isFirst()) {
+            sql.append(" WHERE (").append(column).append(", id) ")
+               .append(cursor.direction().isAscending() ? ">" : "<")
+               .append(" (:sortValue, :lastId)");
+        }
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction)
+           .append(", id ").append(direction)
+           .append(" LIMIT :limit");
+        
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                // Fetch one extra row to learn whether another page follows
+                .bind("limit", limit + 1);
+        if (!cursor.isFirst()) {
+            spec = spec.bind("sortValue", cursor.sortValue())
+                       .bind("lastId", cursor.lastId().value());
+        }
+        
+        return spec.map(R2dbcProductRepositoryAdapter::toEntity)
+                .all()
+                .map(mapper::toDomain)
+                .collectList()
+                .map(products -> toPage(cursor, products, limit));
+    }
+    
+    @Override
+    public Flux<Product> streamAll() {
+        logger.debug("Streaming all products with fetch size {}", streamFetchSize);
+        
+        // A fetch size makes the driver read through a portal in batches as demand arrives;
+        // portals only live inside a transaction
+        Flux<Product> products = databaseClient.sql("SELECT " + PRODUCT_COLUMNS + " FROM products ORDER BY id")
+                .filter(statement -> statement.fetchSize(streamFetchSize))
+                .map(R2dbcProductRepositoryAdapter::toEntity)
+                .all()
+                .map(mapper::toDomain);
+        return readOnlyTransaction.transactional(products);
+    }
+    
+    private static KeysetPage<Product> toPage(ProductCursor cursor, List<Product> products, int limit) {
+        boolean hasNext = products.size() > limit;
+        List<Product> content = hasNext ? products.subList(0, limit) : products;
+        ProductCursor nextCursor = hasNext ? cursor.after(content.get(content.size() - 1)) : null;
+        return new KeysetPage<>(content, nextCursor);
+    }
+    
+    private static ProductEntity toEntity(Readable row) {
+        ProductEntity entity = new ProductEntity();
+        entity.setId(row.get("id", UUID.class));
+        entity.setName(row.get("name", String.class));
+        entity.setDescription(row.get("description", String.class));
+        entity.setPriceAmount(row.get("price_amount", BigDecimal.class));
+        entity.setPriceCurrency(row.get("price_currency", String.class));
+        entity.setStockQuantity(row.get("stock_quantity", Integer.class));
+        entity.setStatus(ProductStatus.valueOf(row.get("status", String.class)));
+        entity.setCreatedAt(row.get("created_at", OffsetDateTime.class).toInstant());
+        entity.setUpdatedAt(row.get("updated_at", OffsetDateTime.class).toInstant());
+        entity.setVersion(row.get("version", Long.class));
+        return entity;
+    }
+}
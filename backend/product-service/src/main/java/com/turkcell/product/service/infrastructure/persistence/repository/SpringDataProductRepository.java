@@ -1,6 +1,9 @@
 package com.turkcell.product.service.infrastructure.persistence.repository;
 
 import com.turkcell.product.service.infrastructure.persistence.entity.ProductEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,6 +26,23 @@ public interface SpringDataProductRepository extends JpaRepository<ProductEntity
      */
     boolean existsByName(String name);
     
+    /**
+     * Finds a page of products together with their total count.
+     * 
+     * @param pageable the pagination information
+     * @return a page of products
+     */
+    @Override
+    Page<ProductEntity> findAll(Pageable pageable);
+    
+    /**
+     * Finds a slice of products without issuing a count query.
+     * 
+     * @param pageable the pagination information
+     * @return a slice of products
+     */
+    Slice<ProductEntity> findAllBy(Pageable pageable);
+    
     /**
      * Checks if a product exists with the given name excluding a specific ID.
      * This is useful for update operations to check name uniqueness.
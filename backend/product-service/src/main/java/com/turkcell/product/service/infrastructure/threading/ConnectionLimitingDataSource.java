@@ -0,0 +1,136 @@
+package com.turkcell.product.service.infrastructure.threading;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Data source that lets at most a fixed number of connections be checked out at once.
+ * A permit is taken when a connection is obtained and returned when it is closed, so only
+ * work that actually holds a connection counts against the limit. Callers that cannot get
+ * a permit within the acquire timeout fail with {@link SQLTransientConnectionException},
+ * the same exception Hikari throws when its own connection timeout expires.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+    
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final Counter rejected;
+    
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, Duration acquireTimeout, 
+                                        MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Max connections must be positive");
+        }
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquireTimeout = acquireTimeout;
+        this.rejected = Counter.builder("product.virtual-threads.connections.rejected")
+                .description("Connection requests rejected because no permit was free in time")
+                .register(meterRegistry);
+        
+        Gauge.builder("product.virtual-threads.connections.in-use", permits, 
+                    semaphore -> maxConnections - semaphore.availablePermits())
+                .description("Connections currently checked out through the limit")
+                .register(meterRegistry);
+        Gauge.builder("product.virtual-threads.connections.waiting", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a connection permit")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    private void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+        
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException("No database connection free within " + acquireTimeout);
+        }
+    }
+    
+    private Connection releasingOnClose(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] {ConnectionProxy.class},
+                new PermitReleasingHandler(target));
+    }
+    
+    /**
+     * Delegates every call to the target connection and returns the permit on the first close.
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+        
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        private PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.turkcell.product.service.infrastructure.threading;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Bounds connection checkout from the primary pool when requests run on virtual threads.
+ * With platform threads the Tomcat pool capped concurrency; virtual threads remove that cap,
+ * so without a limit every request beyond the Hikari pool would park inside
+ * {@code getConnection()} until its connection timeout. The primary data source is wrapped in
+ * a {@link ConnectionLimitingDataSource}, so requests served without the database (cache hits)
+ * never wait, and callers that find no connection within the acquire timeout get a 503.
+ * With replica routing only the primary behind the routing proxy is wrapped; the replica
+ * pools have their own sizes and are not counted against the primary's.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class PrimaryConnectionLimiter implements BeanPostProcessor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PrimaryConnectionLimiter.class);
+    
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+    
+    private final int maxConnections;
+    private final Duration acquireTimeout;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    
+    /**
+     * Reads the settings through the {@link Binder}: bean post-processors are created before
+     * {@code @Value} placeholders can be resolved.
+     * 
+     * @param environment the environment holding {@code product.virtual-threads.max-connections}
+     *                    (defaults to the Hikari pool size) and {@code product.virtual-threads.acquire-timeout}
+     * @param meterRegistry registry for the limit metrics, resolved when the data source is wrapped
+     */
+    public PrimaryConnectionLimiter(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+        int maxConnections = binder.bind("product.virtual-threads.max-connections", Integer.class)
+                .orElseGet(() -> binder.bind("spring.datasource.hikari.maximum-pool-size", Integer.class).orElse(10));
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Max connections must be positive");
+        }
+        this.maxConnections = maxConnections;
+        this.acquireTimeout = binder.bind("product.virtual-threads.acquire-timeout", Duration.class)
+                .orElse(Duration.ofSeconds(1));
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        
+        if (bean instanceof LazyConnectionDataSourceProxy routing) {
+            routing.setTargetDataSource(limit(routing.getTargetDataSource()));
+            return routing;
+        }
+        return limit(dataSource);
+    }
+    
+    private DataSource limit(DataSource primary) {
+        logger.info("Limiting primary database connections to {} on virtual threads", maxConnections);
+        return new ConnectionLimitingDataSource(primary, maxConnections, acquireTimeout, meterRegistry.getObject());
+    }
+}
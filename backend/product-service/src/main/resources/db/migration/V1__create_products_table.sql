@@ -0,0 +1,19 @@
+-- Products table as previously generated by Hibernate (ddl-auto: update).
+-- Existing databases are baselined at this version, so this script only runs on empty schemas.
+
+CREATE TABLE IF NOT EXISTS products (
+    id             UUID                        NOT NULL,
+    name           VARCHAR(128)                NOT NULL,
+    description    VARCHAR(1000),
+    price_amount   NUMERIC(19, 2)              NOT NULL,
+    price_currency VARCHAR(3)                  NOT NULL,
+    stock_quantity INTEGER                     NOT NULL,
+    status         VARCHAR(20)                 NOT NULL,
+    created_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version        BIGINT                      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_products PRIMARY KEY (id),
+    CONSTRAINT uk_products_name UNIQUE (name),
+    CONSTRAINT ck_products_amounts CHECK (price_amount >= 0 AND stock_quantity >= 0),
+    CONSTRAINT ck_products_status CHECK (status IN ('ACTIVE', 'INACTIVE'))
+);
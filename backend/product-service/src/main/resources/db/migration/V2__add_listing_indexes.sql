@@ -0,0 +1,15 @@
+-- One composite index per supported sort field (see ProductSortField).
+-- The id suffix is the tie-breaker of keyset pagination, so both offset and
+-- cursor listings read rows in index order instead of sorting the table.
+
+CREATE INDEX IF NOT EXISTS idx_products_created_at_id ON products (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_updated_at_id ON products (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_name_id ON products (name, id);
+CREATE INDEX IF NOT EXISTS idx_products_price_amount_id ON products (price_amount, id);
+
+-- Listings filtered by status keep the same order within a single status.
+
+CREATE INDEX IF NOT EXISTS idx_products_status_created_at_id ON products (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_status_updated_at_id ON products (status, updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_status_name_id ON products (status, name, id);
+CREATE INDEX IF NOT EXISTS idx_products_status_price_amount_id ON products (status, price_amount, id);
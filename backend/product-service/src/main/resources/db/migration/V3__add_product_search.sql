@@ -0,0 +1,13 @@
+-- Full-text search over name (weight A) and description (weight B).
+-- The 'turkish' configuration lowercases and applies the Turkish Snowball stemmer;
+-- queries must use the same configuration (see ProductJdbcRepository).
+-- Adding a stored generated column rewrites the table once.
+
+ALTER TABLE products
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('turkish', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('turkish', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_products_search_vector ON products USING GIN (search_vector);
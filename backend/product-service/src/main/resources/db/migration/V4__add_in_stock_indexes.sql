@@ -0,0 +1,8 @@
+-- Partial indexes for listings restricted to products in stock (stock_quantity > 0),
+-- one per supported sort field. Status-filtered listings use the (status, column, id)
+-- indexes from V2, and price ranges the (price_amount, id) index.
+
+CREATE INDEX IF NOT EXISTS idx_products_in_stock_created_at_id ON products (created_at, id) WHERE stock_quantity > 0;
+CREATE INDEX IF NOT EXISTS idx_products_in_stock_updated_at_id ON products (updated_at, id) WHERE stock_quantity > 0;
+CREATE INDEX IF NOT EXISTS idx_products_in_stock_name_id ON products (name, id) WHERE stock_quantity > 0;
+CREATE INDEX IF NOT EXISTS idx_products_in_stock_price_amount_id ON products (price_amount, id) WHERE stock_quantity > 0;
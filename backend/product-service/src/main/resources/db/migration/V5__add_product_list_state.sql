@@ -0,0 +1,25 @@
+-- Counts delete statements on products. List ETags combine this counter with
+-- max(updated_at), which inserts and updates move forward but deletes do not.
+-- A statement-level trigger covers every delete path; deletes are rare, so the
+-- single row is not a point of contention for writes.
+
+CREATE TABLE IF NOT EXISTS product_list_state (
+    id        SMALLINT NOT NULL DEFAULT 1,
+    deletions BIGINT   NOT NULL DEFAULT 0,
+    CONSTRAINT pk_product_list_state PRIMARY KEY (id),
+    CONSTRAINT ck_product_list_state_single_row CHECK (id = 1)
+);
+
+INSERT INTO product_list_state (id) VALUES (1) ON CONFLICT DO NOTHING;
+
+CREATE OR REPLACE FUNCTION count_product_deletions() RETURNS trigger AS $$
+BEGIN
+    UPDATE product_list_state SET deletions = deletions + 1 WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_products_count_deletions ON products;
+CREATE TRIGGER trg_products_count_deletions
+    AFTER DELETE OR TRUNCATE ON products
+    FOR EACH STATEMENT EXECUTE FUNCTION count_product_deletions();
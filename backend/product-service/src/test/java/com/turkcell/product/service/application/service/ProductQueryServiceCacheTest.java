@@ -0,0 +1,100 @@
+package com.turkcell.product.service.application.service;
+
+import com.turkcell.product.service.domain.exception.ResourceNotFoundException;
+import com.turkcell.product.service.domain.model.Money;
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductStatus;
+import com.turkcell.product.service.infrastructure.cache.CaffeineProductCache;
+import com.turkcell.product.service.infrastructure.persistence.mapper.ProductPersistenceMapperImpl;
+import com.turkcell.product.service.infrastructure.persistence.repository.ProductJdbcRepository;
+import com.turkcell.product.service.infrastructure.persistence.repository.ProductRepositoryAdapter;
+import com.turkcell.product.service.infrastructure.persistence.repository.ProductSecondLevelCacheEvictor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Reads products through the query service, the domain cache and the real repository adapter
+ * with the second-level cache enabled, while another pod is simulated by changing rows with
+ * plain SQL that neither cache hears about.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+    "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+    "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({
+    ProductQueryService.class,
+    CaffeineProductCache.class,
+    ProductRepositoryAdapter.class,
+    ProductJdbcRepository.class,
+    ProductSecondLevelCacheEvictor.class,
+    ProductPersistenceMapperImpl.class,
+    SimpleMeterRegistry.class
+})
+class ProductQueryServiceCacheTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private ProductQueryService queryService;
+
+    @Autowired
+    private ProductRepositoryAdapter repository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    void servesUpdateMadeElsewhere() {
+        ProductId id = repository.save(newProduct("Before remote update")).getId();
+        assertThat(queryService.getProductById(id).getName()).isEqualTo("Before remote update");
+        repository.findById(id);
+
+        jdbcTemplate.update("UPDATE products SET name = 'After remote update', version = version + 1 WHERE id = :id",
+                            new MapSqlParameterSource("id", id.value()));
+
+        Product product = queryService.getProductById(id);
+        assertThat(product.getName()).isEqualTo("After remote update");
+        assertThat(queryService.getProductById(id).getVersion()).isEqualTo(product.getVersion());
+    }
+
+    @Test
+    void reportsDeleteMadeElsewhere() {
+        ProductId id = repository.save(newProduct("Before remote delete")).getId();
+        queryService.getProductById(id);
+        repository.findById(id);
+
+        jdbcTemplate.update("DELETE FROM products WHERE id = :id", new MapSqlParameterSource("id", id.value()));
+
+        assertThatThrownBy(() -> queryService.getProductById(id)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static Product newProduct(String name) {
+        return Product.create(name, null, Money.of(new BigDecimal("10.00")), 5, ProductStatus.ACTIVE);
+    }
+}
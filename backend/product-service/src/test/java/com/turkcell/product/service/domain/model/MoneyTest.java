@@ -0,0 +1,111 @@
+package com.turkcell.product.service.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void roundsHalfUpToTwoDigitsForTry() {
+        assertThat(Money.of(new BigDecimal("10.005")).amount()).isEqualByComparingTo("10.01");
+        assertThat(Money.of(new BigDecimal("10.004")).amount()).isEqualByComparingTo("10.00");
+        assertThat(Money.of(new BigDecimal("10")).amount().scale()).isEqualTo(2);
+        assertThat(Money.of(new BigDecimal("19.99")).minorUnits()).isEqualTo(1999);
+    }
+
+    @Test
+    void roundsEveryCurrencyToTwoDigits() {
+        assertThat(Money.of(new BigDecimal("1.2345"), "BHD").amount()).isEqualTo(new BigDecimal("1.23"));
+        assertThat(Money.of(new BigDecimal("1.239"), "XAU").amount()).isEqualTo(new BigDecimal("1.24"));
+
+        Money yen = Money.of(new BigDecimal("100.5"), "JPY");
+        assertThat(yen.amount()).isEqualTo(new BigDecimal("100.50"));
+        assertThat(yen.minorUnits()).isEqualTo(10050);
+        assertThat(yen.toString()).isEqualTo("100.50 JPY");
+        assertThat(yen.multiply(new BigDecimal("1.5"))).isEqualTo(Money.ofMinor(15075, "JPY"));
+    }
+
+    @Test
+    void isARecordOfMinorUnitsAndCanonicalCurrency() {
+        Money money = new Money(1999, " try ");
+
+        assertThat(money).isEqualTo(Money.of(new BigDecimal("19.99")));
+        assertThat(money.currency()).isEqualTo("TRY");
+        assertThat(new Money(new BigDecimal("19.99"), "TRY")).isEqualTo(money);
+        assertThatThrownBy(() -> new Money(-1, "TRY")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsOverflowInAdd() {
+        Money max = Money.ofMinor(Long.MAX_VALUE, "TRY");
+
+        assertThatThrownBy(() -> max.add(Money.ofMinor(1, "TRY")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("too large");
+    }
+
+    @Test
+    void rejectsOverflowInMultiply() {
+        Money half = Money.ofMinor(Long.MAX_VALUE / 2 + 1, "TRY");
+
+        assertThatThrownBy(() -> half.multiply(new BigDecimal("2")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("too large");
+        assertThatThrownBy(() -> half.multiply(new BigDecimal("2.5")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("too large");
+    }
+
+    @Test
+    void wholeAndFractionalFactorsGiveTheSameProduct() {
+        Money price = Money.of(new BigDecimal("19.99"));
+
+        Money whole = price.multiply(new BigDecimal("3"));
+
+        assertThat(whole).isEqualTo(Money.of(new BigDecimal("59.97")));
+        assertThat(price.multiply(new BigDecimal("3.00"))).isEqualTo(whole);
+        assertThat(price.multiply(new BigDecimal("3.0"))).isEqualTo(whole);
+        assertThat(price.multiply(new BigDecimal("3E+1"))).isEqualTo(Money.of(new BigDecimal("599.70")));
+        assertThat(price.multiply(new BigDecimal("0.5"))).isEqualTo(Money.of(new BigDecimal("10.00")));
+    }
+
+    @Test
+    void rejectsMixedCurrencies() {
+        assertThatThrownBy(() -> Money.of(BigDecimal.ONE, "TRY").add(Money.of(BigDecimal.ONE, "USD")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.of(BigDecimal.ONE, "TRY").isGreaterThan(Money.of(BigDecimal.ONE, "EUR")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void equalsAcrossSpellingsOfOneCurrency() {
+        Money canonical = Money.of(new BigDecimal("5.00"), "USD");
+        Money spelled = Money.of(new BigDecimal("5"), " usd ");
+
+        assertThat(spelled).isEqualTo(canonical);
+        assertThat(spelled.hashCode()).isEqualTo(canonical.hashCode());
+        assertThat(Money.of(new BigDecimal("5"), null)).isEqualTo(Money.of(new BigDecimal("5"), "TRY"));
+    }
+
+    @Test
+    void equalsAcrossInternedAndNotInternedCurrencies() {
+        Money interned = Money.of(new BigDecimal("7"), "EUR");
+
+        // Fill the intern map, so the spellings below are resolved without being remembered
+        for (int i = 0; i < 300; i++) {
+            Money.of(BigDecimal.ONE, "X" + i);
+        }
+        Money notInterned = Money.of(new BigDecimal("7"), "eur\t");
+        Money unknown = Money.of(new BigDecimal("7"), "zzz");
+
+        assertThat(notInterned).isEqualTo(interned);
+        assertThat(notInterned.hashCode()).isEqualTo(interned.hashCode());
+        assertThat(unknown).isEqualTo(Money.of(new BigDecimal("7.00"), "ZZZ"));
+        assertThat(unknown.hashCode()).isEqualTo(Money.of(new BigDecimal("7.00"), "ZZZ").hashCode());
+        assertThat(Money.of(new BigDecimal("7"), "jpy").amount()).isEqualTo(new BigDecimal("7.00"));
+    }
+}
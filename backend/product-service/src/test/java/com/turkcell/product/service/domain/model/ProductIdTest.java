@@ -0,0 +1,109 @@
+package com.turkcell.product.service.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductIdTest {
+    
+    private static final int IDS = 20_000;
+    
+    @Test
+    void generatesVersion7WithRfcVariant() {
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = ProductId.generate().value();
+            
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2);
+        }
+    }
+    
+    @Test
+    void embedsCurrentUnixMillis() {
+        long before = System.currentTimeMillis();
+        UUID id = ProductId.generate().value();
+        long after = System.currentTimeMillis();
+        
+        // A counter overflow may push the timestamp a few milliseconds ahead of the clock
+        assertThat(millisOf(id)).isBetween(before, after + 100);
+    }
+    
+    @Test
+    void increasesStrictlyWithinOneMillisecond() {
+        List<UUID> ids = new ArrayList<>(IDS);
+        for (int i = 0; i < IDS; i++) {
+            ids.add(ProductId.generate().value());
+        }
+        
+        Map<Long, Integer> perMillisecond = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            perMillisecond.merge(millisOf(ids.get(i)), 1, Integer::sum);
+            if (i > 0) {
+                assertThat(compare(ids.get(i - 1), ids.get(i))).as("ID %d after %d", i, i - 1).isNegative();
+            }
+        }
+        assertThat(perMillisecond.values()).anyMatch(count -> count > 1);
+    }
+    
+    @Test
+    void staysUniqueAndOrderedPerThreadUnderContention() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<UUID>>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Callable<List<UUID>> task = () -> {
+                    start.await();
+                    List<UUID> ids = new ArrayList<>(IDS);
+                    for (int i = 0; i < IDS; i++) {
+                        ids.add(ProductId.generate().value());
+                    }
+                    return ids;
+                };
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            
+            Set<Long> timestamps = new HashSet<>();
+            for (Future<List<UUID>> result : results) {
+                List<UUID> ids = result.get();
+                for (int i = 0; i < ids.size(); i++) {
+                    // Time and counter bits are handed out once across all threads
+                    assertThat(timestamps.add(ids.get(i).getMostSignificantBits())).isTrue();
+                    if (i > 0) {
+                        assertThat(compare(ids.get(i - 1), ids.get(i))).isNegative();
+                    }
+                }
+            }
+            assertThat(timestamps).hasSize(threads * IDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static long millisOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+    
+    /**
+     * Compares as unsigned 128-bit values, which is how the database orders UUIDs.
+     */
+    private static int compare(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,117 @@
+package com.turkcell.product.service.infrastructure.cache;
+
+import com.turkcell.product.service.domain.model.Money;
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two cache instances over one shared store stand for two pods over one database.
+ */
+class CaffeineProductCacheTest {
+    
+    private final Map<ProductId, Product> database = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    
+    private CaffeineProductCache podA;
+    private CaffeineProductCache podB;
+    
+    @BeforeEach
+    void setUp() {
+        podA = newCache();
+        podB = newCache();
+    }
+    
+    @Test
+    void writeThroughAnotherInstanceIsNotShadowed() {
+        Product original = product(ProductId.generate(), "Original", 0);
+        database.put(original.getId(), original);
+        assertThat(get(podA, original.getId())).contains(original);
+        
+        Product updated = product(original.getId(), "Updated", 1);
+        database.put(updated.getId(), updated);
+        podB.putAfterCommit(updated);
+        
+        assertThat(get(podA, original.getId())).map(Product::getName).contains("Updated");
+        assertThat(get(podA, original.getId())).map(Product::getVersion).contains(1L);
+    }
+    
+    @Test
+    void deleteThroughAnotherInstanceIsNotShadowed() {
+        Product product = product(ProductId.generate(), "Deleted", 0);
+        database.put(product.getId(), product);
+        assertThat(get(podA, product.getId())).isPresent();
+        
+        database.remove(product.getId());
+        podB.evictAfterCommit(product.getId());
+        
+        assertThat(get(podA, product.getId())).isEmpty();
+        assertThat(podA.getIfCurrent(product.getId(), this::version)).isEmpty();
+    }
+    
+    @Test
+    void currentEntryIsServedWithoutLoading() {
+        Product product = product(ProductId.generate(), "Cached", 3);
+        database.put(product.getId(), product);
+        
+        get(podA, product.getId());
+        get(podA, product.getId());
+        
+        assertThat(loads).hasValue(1);
+    }
+    
+    @Test
+    void entryNewerThanLaggingReadIsKept() {
+        Product written = product(ProductId.generate(), "Written", 5);
+        podA.putAfterCommit(written);
+        
+        // A replica that has not replayed the write yet still reports the previous version
+        Optional<Product> cached = podA.getIfCurrent(written.getId(), id -> Optional.of(4L));
+        
+        assertThat(cached).contains(written);
+    }
+    
+    @Test
+    void olderWriteDoesNotReplaceNewerEntry() {
+        ProductId id = ProductId.generate();
+        Product newer = product(id, "Newer", 2);
+        podA.putAfterCommit(newer);
+        podA.putAfterCommit(product(id, "Older", 1));
+        
+        assertThat(podA.getIfCurrent(id, key -> Optional.of(2L))).contains(newer);
+    }
+    
+    private Optional<Product> get(CaffeineProductCache cache, ProductId id) {
+        return cache.get(id, this::version, key -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(database.get(key));
+        });
+    }
+    
+    private Optional<Long> version(ProductId id) {
+        return Optional.ofNullable(database.get(id)).map(Product::getVersion);
+    }
+    
+    private static CaffeineProductCache newCache() {
+        return new CaffeineProductCache(100, Duration.ofMinutes(10), 100, Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+    
+    private static Product product(ProductId id, String name, long version) {
+        Instant now = Instant.now();
+        return Product.rehydrate(id, name, null, Money.of(new BigDecimal("10.00")), 1,
+                                 ProductStatus.ACTIVE, now, now, version);
+    }
+}
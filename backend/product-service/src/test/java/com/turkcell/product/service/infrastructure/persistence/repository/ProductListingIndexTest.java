@@ -0,0 +1,149 @@
+package com.turkcell.product.service.infrastructure.persistence.repository;
+
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductStatus;
+import com.turkcell.product.service.domain.port.repository.ProductCursor;
+import com.turkcell.product.service.domain.port.repository.ProductFilter;
+import com.turkcell.product.service.domain.port.repository.ProductSortField;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with {@code EXPLAIN} that the offset and keyset listing queries read the
+ * (column, id) and (status, column, id) indexes of V2 in order, instead of scanning and
+ * sorting the table.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductListingIndexTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    private static final int ROWS = 20_000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final ProductFilter INACTIVE = new ProductFilter(null, null, ProductStatus.INACTIVE, null);
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void insertProducts() {
+        // Every tenth product is inactive, so a status filter is selective enough to use its index
+        jdbcTemplate.update("""
+                INSERT INTO products (id, name, description, price_amount, price_currency, stock_quantity,
+                                      status, created_at, updated_at, version)
+                SELECT gen_random_uuid(), 'product-' || i, NULL, (i % 1000) + 0.99, 'TRY', i % 50,
+                       CASE WHEN i % 10 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END,
+                       now() - i * interval '1 minute', now() - (i % 977) * interval '1 minute', 0
+                FROM generate_series(1, :rows) AS i
+                """, Map.of("rows", ROWS));
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE products");
+    }
+
+    Stream<Arguments> sortOrders() {
+        return Arrays.stream(ProductSortField.values())
+                .flatMap(field -> Stream.of(Sort.Direction.ASC, Sort.Direction.DESC)
+                        .map(direction -> Arguments.of(field, direction)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortOrders")
+    void offsetListingReadsSortIndex(ProductSortField field, Sort.Direction direction) {
+        assertReadsInIndexOrder(matchingPlan(ProductFilter.none(), field, direction), sortIndex(field));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortOrders")
+    void offsetListingByStatusReadsStatusIndex(ProductSortField field, Sort.Direction direction) {
+        assertReadsInIndexOrder(matchingPlan(INACTIVE, field, direction), statusIndex(field));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortOrders")
+    void keysetListingReadsSortIndex(ProductSortField field, Sort.Direction direction) {
+        assertReadsInIndexOrder(afterPlan(middleOf(ProductFilter.none(), field, direction), ProductFilter.none()),
+                                sortIndex(field));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortOrders")
+    void keysetListingByStatusReadsStatusIndex(ProductSortField field, Sort.Direction direction) {
+        assertReadsInIndexOrder(afterPlan(middleOf(INACTIVE, field, direction), INACTIVE), statusIndex(field));
+    }
+
+    private String matchingPlan(ProductFilter filter, ProductSortField field, Sort.Direction direction) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", PAGE_SIZE)
+                .addValue("offset", 0);
+        String sql = ProductJdbcRepository.matchingSql(filter, Sort.by(direction, field.property()), params);
+        return explain(sql, params);
+    }
+
+    private String afterPlan(ProductCursor cursor, ProductFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", PAGE_SIZE);
+        return explain(ProductJdbcRepository.afterSql(cursor, filter, params), params);
+    }
+
+    private String explain(String sql, MapSqlParameterSource params) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, params, String.class));
+    }
+
+    /**
+     * Returns a cursor half way through the listing, as a client paging through it would send.
+     */
+    private ProductCursor middleOf(ProductFilter filter, ProductSortField field, Sort.Direction direction) {
+        String column = ProductJdbcRepository.columnOf(field);
+        String status = filter.status() != null ? " WHERE status = '" + filter.status().name() + "'" : "";
+        return jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT " + column + ", id FROM products" + status
+                        + " ORDER BY " + column + " " + direction + ", id " + direction
+                        + " OFFSET " + ROWS / 20 + " LIMIT 1",
+                (rs, rowNum) -> new ProductCursor(field, direction,
+                        column.endsWith("_at") ? rs.getTimestamp(1).toInstant() : rs.getObject(1),
+                        new ProductId(rs.getObject(2, UUID.class))));
+    }
+
+    private static String sortIndex(ProductSortField field) {
+        return "idx_products_" + ProductJdbcRepository.columnOf(field) + "_id";
+    }
+
+    private static String statusIndex(ProductSortField field) {
+        return "idx_products_status_" + ProductJdbcRepository.columnOf(field) + "_id";
+    }
+
+    private static void assertReadsInIndexOrder(String plan, String index) {
+        assertThat(plan).as(plan)
+                .containsPattern("Index Scan( Backward)? using " + index + " on products")
+                .doesNotContain("Seq Scan")
+                .doesNotContain("Sort");
+    }
+}
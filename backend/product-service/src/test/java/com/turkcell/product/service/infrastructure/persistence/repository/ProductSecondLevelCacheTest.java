@@ -0,0 +1,194 @@
+package com.turkcell.product.service.infrastructure.persistence.repository;
+
+import com.turkcell.product.service.domain.model.Money;
+import com.turkcell.product.service.domain.model.Product;
+import com.turkcell.product.service.domain.model.ProductId;
+import com.turkcell.product.service.domain.model.ProductStatus;
+import com.turkcell.product.service.infrastructure.persistence.mapper.ProductPersistenceMapperImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Counts the SQL statements of product writes and reads against PostgreSQL, with the
+ * second-level cache configured as in the service configuration.
+ * Each repository call runs in its own transaction, as it does when called from the services.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+    "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+    "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({
+    ProductRepositoryAdapter.class,
+    ProductJdbcRepository.class,
+    ProductSecondLevelCacheEvictor.class,
+    ProductPersistenceMapperImpl.class,
+    SimpleMeterRegistry.class,
+    ProductSecondLevelCacheTest.StatementCounting.class
+})
+class ProductSecondLevelCacheTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    @Autowired
+    private ProductRepositoryAdapter repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void eachWriteIsOneStatement() {
+        Product product = newProduct("Single statement write");
+
+        long before = STATEMENTS.get();
+        long inserts = writeStatements("insert");
+        Product created = repository.save(product);
+        assertThat(STATEMENTS.get() - before).isEqualTo(1);
+        assertThat(writeStatements("insert") - inserts).isEqualTo(1);
+
+        before = STATEMENTS.get();
+        long updates = writeStatements("update");
+        repository.save(renamed(created, "Single statement update"));
+        assertThat(STATEMENTS.get() - before).isEqualTo(1);
+        assertThat(writeStatements("update") - updates).isEqualTo(1);
+    }
+
+    @Test
+    void staleWriteIsReportedAsConflict() {
+        Product created = repository.save(newProduct("Stale write"));
+        repository.save(renamed(created, "First update"));
+
+        long conflicts = writeStatements("conflict");
+        assertThatThrownBy(() -> repository.save(renamed(created, "Stale update")))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(writeStatements("conflict") - conflicts).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedReadsIssueNoStatements() {
+        ProductId id = repository.save(newProduct("Cached read")).getId();
+        repository.findById(id);
+
+        Statistics statistics = statistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long before = STATEMENTS.get();
+        for (int i = 0; i < 3; i++) {
+            assertThat(repository.findById(id)).isPresent();
+        }
+
+        assertThat(STATEMENTS.get() - before).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount() - hits).isEqualTo(3);
+    }
+
+    @Test
+    void writeInvalidatesCachedEntity() {
+        Product created = repository.save(newProduct("Before write"));
+        repository.findById(created.getId());
+        repository.findById(created.getId());
+
+        repository.save(renamed(created, "After write"));
+
+        long before = STATEMENTS.get();
+        assertThat(repository.findById(created.getId())).map(Product::getName).contains("After write");
+        assertThat(STATEMENTS.get() - before).isEqualTo(1);
+
+        before = STATEMENTS.get();
+        assertThat(repository.findById(created.getId())).map(Product::getName).contains("After write");
+        assertThat(STATEMENTS.get() - before).isZero();
+    }
+
+    private long writeStatements(String outcome) {
+        return meterRegistry.get("product.repository.write.statements").tag("outcome", outcome).timer().count();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static Product newProduct(String name) {
+        return Product.create(name, null, Money.of(new BigDecimal("10.00")), 5, ProductStatus.ACTIVE);
+    }
+
+    private static Product renamed(Product product, String name) {
+        return Product.rehydrate(product.getId(), name, product.getDescription(), product.getPrice(),
+                                 product.getStockQuantity(), product.getStatus(), product.getCreatedAt(),
+                                 product.getUpdatedAt(), product.getVersion());
+    }
+
+    /**
+     * Counts every statement created on a connection of the data source, whether by Hibernate
+     * or by JdbcTemplate.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T counting(T target, Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (STATEMENT_METHODS.contains(method.getName())) {
+                STATEMENTS.incrementAndGet();
+            }
+            try {
+                Object result = method.invoke(target, args);
+                return result instanceof Connection connection ? counting(connection, Connection.class) : result;
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class StatementCounting {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counting(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+    }
+}